@@ -0,0 +1,70 @@
+package com.isw.app.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import com.isw.app.models.Room;
+import com.isw.app.models.Coord;
+import com.isw.app.models.Robot;
+import com.isw.app.models.RoomSpec;
+import com.isw.app.models.Cleaning;
+import com.isw.app.enums.SectorType;
+import com.isw.app.services.GenerationService;
+import com.isw.app.repositories.RoomRepository;
+
+public class BenchmarkFixture {
+  public static final long SEED = 20240517L;
+  private static final String SNAPSHOT_DIR_PROPERTY = "bench.snapshot.dir";
+
+  private final Random random = new Random(SEED);
+  private final GenerationService generationService = new GenerationService(random);
+  private final RoomRepository roomRepository = new RoomRepository();
+
+  // Con bench.snapshot.dir cada tamano se genera una sola vez y luego se carga
+  // de la instantanea, asi los cambios en la generacion no alteran las mediciones
+  public Room createRoom(int size) {
+    String directory = System.getProperty(SNAPSHOT_DIR_PROPERTY);
+    if (directory == null || directory.isEmpty()) {
+      return generationService.generate(new RoomSpec(size, size, SEED));
+    }
+
+    Path snapshot = Paths.get(directory, "room-" + size + ".snap");
+    try {
+      if (Files.exists(snapshot)) return roomRepository.loadSnapshot(snapshot);
+
+      Room room = generationService.generate(new RoomSpec(size, size, SEED));
+      Files.createDirectories(snapshot.getParent());
+      roomRepository.saveSnapshot(room, snapshot);
+      return room;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // Reparte los robots sobre sectores limpios con un paso fijo para que
+  // la flota cubra todo el salon de forma reproducible
+  public List<Robot> placeRobots(Room room, int count) {
+    List<Coord> candidates = room.getCoordsByType(SectorType.CLEAN);
+    List<Robot> robots = new ArrayList<>();
+    if (candidates.isEmpty()) return robots;
+
+    int stride = Math.max(1, candidates.size() / count);
+    for (int i = 0; i < count && i * stride < candidates.size(); i++) {
+      Coord coord = candidates.get(i * stride);
+      room.setSectorOccupied(coord, true);
+      robots.add(new Robot(coord, random));
+    }
+
+    return robots;
+  }
+
+  public Cleaning createCleaning(int size, int robots) {
+    Room room = createRoom(size);
+    return new Cleaning(room, placeRobots(room, robots), random);
+  }
+}
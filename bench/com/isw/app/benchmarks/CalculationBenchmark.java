@@ -0,0 +1,46 @@
+package com.isw.app.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import com.isw.app.models.Room;
+import com.isw.app.models.Coord;
+import com.isw.app.services.CalculationService;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculationBenchmark {
+  @Param({ "16", "64", "256" })
+  public int size;
+
+  private final BenchmarkFixture fixture = new BenchmarkFixture();
+  private CalculationService calculationService;
+  private Room room;
+  private List<Coord> positions;
+
+  @Setup
+  public void setup() {
+    calculationService = new CalculationService();
+    room = fixture.createRoom(size);
+    positions = calculationService.getValidInitialPositions(room);
+  }
+
+  @Benchmark
+  public List<Coord> sortPositionsByQuality() {
+    return calculationService.sortPositionsByQuality(positions, room);
+  }
+}
@@ -0,0 +1,49 @@
+package com.isw.app.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import com.isw.app.models.Robot;
+import com.isw.app.models.Cleaning;
+import com.isw.app.models.Decision;
+import com.isw.app.services.MovementService;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovementBenchmark {
+  @Param({ "16", "32", "64" })
+  public int size;
+
+  @Param({ "4", "16" })
+  public int robots;
+
+  private final BenchmarkFixture fixture = new BenchmarkFixture();
+  private MovementService movementService;
+  private Cleaning cleaning;
+
+  @Setup
+  public void setup() {
+    movementService = new MovementService();
+    cleaning = fixture.createCleaning(size, robots);
+  }
+
+  @Benchmark
+  public List<Decision> calculateMovements() {
+    List<Robot> fleet = cleaning.getRobots();
+    return movementService.calculateMovements(fleet, cleaning.getRoom());
+  }
+}
@@ -0,0 +1,63 @@
+package com.isw.app.benchmarks;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import com.isw.app.models.Room;
+import com.isw.app.models.Coord;
+import com.isw.app.enums.SectorType;
+import com.isw.app.services.PathfindingService;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathfindingBenchmark {
+  private static final int QUERIES = 256;
+
+  @Param({ "16", "64", "256" })
+  public int size;
+
+  private final BenchmarkFixture fixture = new BenchmarkFixture();
+  private PathfindingService pathfindingService;
+  private Room room;
+  private Coord[] starts;
+  private Coord[] goals;
+  private int next;
+
+  @Setup
+  public void setup() {
+    pathfindingService = new PathfindingService();
+    room = fixture.createRoom(size);
+
+    List<Coord> clean = room.getCoordsByType(SectorType.CLEAN);
+    List<Coord> dirty = room.getCoordsByType(SectorType.DIRTY);
+    SplittableRandom random = new SplittableRandom(BenchmarkFixture.SEED);
+
+    starts = new Coord[QUERIES];
+    goals = new Coord[QUERIES];
+    for (int i = 0; i < QUERIES; i++) {
+      starts[i] = clean.get(random.nextInt(clean.size()));
+      goals[i] = dirty.get(random.nextInt(dirty.size()));
+    }
+  }
+
+  @Benchmark
+  public List<Coord> findShortestPathAvoidingRobots() {
+    int query = next++ & (QUERIES - 1);
+    return pathfindingService.findShortestPathAvoidingRobots(starts[query], goals[query], room, true);
+  }
+}
@@ -0,0 +1,70 @@
+package com.isw.app.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import com.isw.app.models.Cleaning;
+import com.isw.app.models.StepResult;
+import com.isw.app.services.CleaningService;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepBenchmark {
+  @Param({ "16", "32", "64" })
+  public int size;
+
+  @Param({ "4", "16" })
+  public int robots;
+
+  private final BenchmarkFixture fixture = new BenchmarkFixture();
+  private CleaningService cleaningService;
+  private Cleaning cleaning;
+  private boolean finished;
+
+  @Setup(Level.Trial)
+  public void setupService() {
+    cleaningService = new CleaningService();
+  }
+
+  @TearDown(Level.Trial)
+  public void closeService() {
+    cleaningService.close();
+  }
+
+  @Setup(Level.Iteration)
+  public void setupMission() {
+    cleaning = fixture.createCleaning(size, robots);
+    cleaningService.startCleaning(cleaning);
+    finished = false;
+  }
+
+  // Reiniciar una mision terminada queda fuera de la medicion: solo se mide executeStep
+  @Setup(Level.Invocation)
+  public void restartFinishedMission() {
+    if (finished) {
+      setupMission();
+    }
+  }
+
+  @Benchmark
+  public StepResult executeStep() {
+    StepResult result = cleaningService.executeStep(cleaning);
+    finished = result == null || result.isComplete();
+    return result;
+  }
+}
@@ -0,0 +1,71 @@
+package com.isw.app;
+
+import java.util.List;
+import java.util.Random;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.function.Supplier;
+import com.isw.app.models.Room;
+import com.isw.app.models.RoomSpec;
+import com.isw.app.models.JournalConfig;
+import com.isw.app.models.SimulationSummary;
+import com.isw.app.services.CleaningService;
+import com.isw.app.services.SimulationService;
+
+public class Batch {
+  private static final int DEFAULT_MISSIONS = 100;
+
+  public static void main(String[] args) {
+    int missions = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MISSIONS;
+    int maxSteps = args.length > 1 ? Integer.parseInt(args[1]) : SimulationService.DEFAULT_MAX_STEPS;
+    // Con semilla: ejecucion reproducible y temporizadores por paso, sin esperar al reloj
+    Random random = args.length > 4 ? new Random(Long.parseLong(args[4])) : new Random();
+    Supplier<RoomSpec> specs = () -> RoomSpec.random(random);
+
+    if (args.length > 3) {
+      int rows = Integer.parseInt(args[2]);
+      int cols = Integer.parseInt(args[3]);
+      specs = () -> new RoomSpec(rows, cols, random.nextLong());
+    }
+
+    if (args.length > 4) {
+      Supplier<RoomSpec> seeded = specs;
+      specs = () -> seeded.get().withStepTimers(true);
+    }
+
+    // Con instantanea todas las misiones usan el mismo salon; si el archivo no existe
+    // se genera con el primer spec y se guarda para las siguientes corridas
+    Path snapshot = args.length > 5 ? Paths.get(args[5]) : null;
+
+    List<SimulationSummary> summaries;
+    double elapsedSeconds;
+    try (CleaningService cleaningService = new CleaningService(JournalConfig.defaults(), random)) {
+      SimulationService simulationService = new SimulationService(cleaningService, maxSteps);
+
+      if (snapshot != null && !Files.exists(snapshot)) {
+        Room room = cleaningService.generateRoom(specs.get());
+        if (room == null || !cleaningService.saveRoomSnapshot(room, snapshot)) {
+          System.err.println("No se pudo crear la instantanea " + snapshot);
+          return;
+        }
+      }
+
+      long start = System.nanoTime();
+      summaries = snapshot != null
+          ? simulationService.runBatch(missions, snapshot)
+          : simulationService.runBatch(missions, specs);
+      elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+    }
+
+    for (SimulationSummary summary : summaries) {
+      System.out.println(String.format("%s %dx%d robots=%d pasos=%d limpieza=%.1f%% estado=%s tiempo=%.2fms",
+          summary.getRoomUuid(), summary.getRows(), summary.getCols(), summary.getRobots(),
+          summary.getSteps(), summary.getCompletionPercentage(), summary.getStatus(),
+          summary.getElapsedMillis()));
+    }
+
+    System.out.println(String.format("Misiones: %d | Tiempo total: %.2fs | Misiones/min: %.0f",
+        summaries.size(), elapsedSeconds, summaries.size() / elapsedSeconds * 60));
+  }
+}
@@ -4,6 +4,9 @@ import com.isw.app.presentation.views.SimulatorView;
 
 public class Main {
   public static void main(String[] args) {
-    new SimulatorView().display();
+    SimulatorView view = new SimulatorView();
+    // Unico gancho de la aplicacion: vacia el historial al cerrar la ventana
+    Runtime.getRuntime().addShutdownHook(new Thread(view::close));
+    view.display();
   }
 }
@@ -0,0 +1,7 @@
+package com.isw.app.enums;
+
+public enum BackpressurePolicy {
+  BLOCK,
+  DROP_NEWEST,
+  DROP_OLDEST
+}
@@ -5,7 +5,11 @@ import java.nio.file.Paths;
 public enum DataFile {
   ROOMS("rooms.txt"),
   ROBOTS("robots.txt"),
-  HISTORY("history.txt");
+  HISTORY("history.txt"),
+  HISTORY_LOG("history.bin"),
+  HISTORY_INDEX("history.idx"),
+  HISTORY_META("history.meta"),
+  HISTORY_SEGMENT("history-%04d.seg");
 
   private final String filename;
 
@@ -16,4 +20,8 @@ public enum DataFile {
   public String getPath() {
     return Paths.get("src", "com", "isw", "app", "data", filename).toString();
   }
+
+  public String getPath(int part) {
+    return Paths.get("src", "com", "isw", "app", "data", String.format(filename, part)).toString();
+  }
 }
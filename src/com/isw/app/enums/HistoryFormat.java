@@ -0,0 +1,7 @@
+package com.isw.app.enums;
+
+public enum HistoryFormat {
+  TEXT,
+  BINARY,
+  MAPPED
+}
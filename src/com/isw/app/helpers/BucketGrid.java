@@ -0,0 +1,184 @@
+package com.isw.app.helpers;
+
+import java.util.Arrays;
+
+// Indice espacial de celdas (row * cols + col) repartidas en cubetas cuadradas.
+// Altas y bajas en O(1); las consultas recorren anillos de cubetas alrededor del
+// origen y se detienen cuando ninguna cubeta restante puede mejorar el resultado
+public class BucketGrid {
+  public static final int NONE = -1;
+  private static final int DEFAULT_BUCKET_SIZE = 8;
+
+  private final int rows;
+  private final int cols;
+  private final int bucketSize;
+  private final int bucketRows;
+  private final int bucketCols;
+  private final int[][] buckets;
+  private final int[] bucketSizes;
+  private final int[] positions;
+  private int size;
+
+  public BucketGrid(int rows, int cols) {
+    this(rows, cols, DEFAULT_BUCKET_SIZE);
+  }
+
+  public BucketGrid(int rows, int cols, int bucketSize) {
+    this.rows = rows;
+    this.cols = cols;
+    this.bucketSize = bucketSize;
+    this.bucketRows = (rows + bucketSize - 1) / bucketSize;
+    this.bucketCols = (cols + bucketSize - 1) / bucketSize;
+    this.buckets = new int[bucketRows * bucketCols][];
+    this.bucketSizes = new int[bucketRows * bucketCols];
+    this.positions = new int[rows * cols];
+    Arrays.fill(positions, NONE);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean contains(int cell) {
+    return positions[cell] != NONE;
+  }
+
+  public boolean add(int cell) {
+    if (contains(cell)) return false;
+
+    int bucket = bucketOf(cell / cols, cell % cols);
+    int[] cells = buckets[bucket];
+    if (cells == null) {
+      cells = buckets[bucket] = new int[4];
+    } else if (bucketSizes[bucket] == cells.length) {
+      cells = buckets[bucket] = Arrays.copyOf(cells, cells.length * 2);
+    }
+
+    cells[bucketSizes[bucket]] = cell;
+    positions[cell] = bucketSizes[bucket]++;
+    size++;
+    return true;
+  }
+
+  public boolean remove(int cell) {
+    int position = positions[cell];
+    if (position == NONE) return false;
+
+    int bucket = bucketOf(cell / cols, cell % cols);
+    int[] cells = buckets[bucket];
+    int last = cells[--bucketSizes[bucket]];
+    cells[position] = last;
+    positions[last] = position;
+    positions[cell] = NONE;
+    size--;
+    return true;
+  }
+
+  // Empates por distancia se resuelven a favor de la celda de menor indice
+  public int nearest(int row, int col) {
+    int[] result = nearest(row, col, 1);
+    return result.length > 0 ? result[0] : NONE;
+  }
+
+  public int[] nearest(int row, int col, int k) {
+    k = Math.min(k, size);
+    if (k <= 0) return new int[0];
+
+    // Los k mejores encontrados hasta ahora, ordenados de menor a mayor distancia
+    int[] bestCells = new int[k];
+    int[] bestDistances = new int[k];
+    int found = 0;
+
+    int centerRow = row / bucketSize;
+    int centerCol = col / bucketSize;
+    int maxRing = Math.max(Math.max(centerRow, bucketRows - 1 - centerRow),
+        Math.max(centerCol, bucketCols - 1 - centerCol));
+
+    for (int ring = 0; ring <= maxRing; ring++) {
+      if (found == k && ringLowerBound(row, col, centerRow, centerCol, ring) > bestDistances[k - 1]) break;
+
+      int top = centerRow - ring;
+      int bottom = centerRow + ring;
+      int left = centerCol - ring;
+      int right = centerCol + ring;
+
+      for (int bucketRow = Math.max(0, top); bucketRow <= Math.min(bucketRows - 1, bottom); bucketRow++) {
+        int step = bucketRow == top || bucketRow == bottom ? 1 : Math.max(1, right - left);
+
+        for (int bucketCol = left; bucketCol <= right; bucketCol += step) {
+          if (bucketCol < 0 || bucketCol >= bucketCols) continue;
+
+          int bucket = bucketRow * bucketCols + bucketCol;
+          int[] cells = buckets[bucket];
+          for (int i = 0; i < bucketSizes[bucket]; i++) {
+            found = offer(cells[i], distance(cells[i], row, col), bestCells, bestDistances, found);
+          }
+        }
+      }
+    }
+
+    return Arrays.copyOf(bestCells, found);
+  }
+
+  public int[] within(int row, int col, int radius) {
+    int[] result = new int[Math.min(size, 16)];
+    int count = 0;
+
+    int firstRow = Math.max(0, row - radius) / bucketSize;
+    int lastRow = Math.min(rows - 1, row + radius) / bucketSize;
+    int firstCol = Math.max(0, col - radius) / bucketSize;
+    int lastCol = Math.min(cols - 1, col + radius) / bucketSize;
+
+    for (int bucketRow = firstRow; bucketRow <= lastRow; bucketRow++) {
+      for (int bucketCol = firstCol; bucketCol <= lastCol; bucketCol++) {
+        int bucket = bucketRow * bucketCols + bucketCol;
+        for (int i = 0; i < bucketSizes[bucket]; i++) {
+          int cell = buckets[bucket][i];
+          if (distance(cell, row, col) <= radius) {
+            if (count == result.length) result = Arrays.copyOf(result, Math.max(16, count * 2));
+            result[count++] = cell;
+          }
+        }
+      }
+    }
+
+    return Arrays.copyOf(result, count);
+  }
+
+  private int offer(int cell, int distance, int[] bestCells, int[] bestDistances, int found) {
+    int k = bestCells.length;
+    if (found == k && !precedes(distance, cell, bestDistances[k - 1], bestCells[k - 1])) return found;
+
+    int position = Math.min(found, k - 1);
+    while (position > 0 && precedes(distance, cell, bestDistances[position - 1], bestCells[position - 1])) {
+      bestCells[position] = bestCells[position - 1];
+      bestDistances[position] = bestDistances[position - 1];
+      position--;
+    }
+
+    bestCells[position] = cell;
+    bestDistances[position] = distance;
+    return Math.min(found + 1, k);
+  }
+
+  private boolean precedes(int distance, int cell, int otherDistance, int otherCell) {
+    return distance < otherDistance || (distance == otherDistance && cell < otherCell);
+  }
+
+  // Distancia minima desde el origen a cualquier celda fuera del bloque de anillos ya visitado
+  private long ringLowerBound(int row, int col, int centerRow, int centerCol, int ring) {
+    int top = (centerRow - ring + 1) * bucketSize;
+    int bottom = (centerRow + ring) * bucketSize - 1;
+    int left = (centerCol - ring + 1) * bucketSize;
+    int right = (centerCol + ring) * bucketSize - 1;
+    return Math.min(Math.min(row - top, bottom - row), Math.min(col - left, right - col)) + 1L;
+  }
+
+  private int distance(int cell, int row, int col) {
+    return Math.abs(cell / cols - row) + Math.abs(cell % cols - col);
+  }
+
+  private int bucketOf(int row, int col) {
+    return (row / bucketSize) * bucketCols + col / bucketSize;
+  }
+}
@@ -0,0 +1,33 @@
+package com.isw.app.helpers;
+
+import java.util.function.BinaryOperator;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Casilla unica sin bloqueos entre un productor y un consumidor: el productor
+// nunca espera y el consumidor siempre toma el valor mas reciente. Si la
+// casilla sigue ocupada al publicar, el valor pendiente se combina con el nuevo
+public class FrameExchanger<T> {
+  private final AtomicReference<T> slot = new AtomicReference<>();
+  private final BinaryOperator<T> merger;
+
+  // merger recibe (pendiente, nuevo) y devuelve el valor combinado
+  public FrameExchanger(BinaryOperator<T> merger) {
+    this.merger = merger;
+  }
+
+  public void publish(T value) {
+    while (true) {
+      T pending = slot.get();
+      T next = pending == null ? value : merger.apply(pending, value);
+      if (slot.compareAndSet(pending, next)) return;
+    }
+  }
+
+  public boolean isEmpty() {
+    return slot.get() == null;
+  }
+
+  public T take() {
+    return slot.getAndSet(null);
+  }
+}
@@ -1,8 +1,25 @@
 package com.isw.app.helpers;
 
+import java.util.Random;
+
 public class IdentifierHelper {
   public static String generate(String prefix) {
-    int number = RandomHelper.getRandomInt(1000, 9999);
-    return String.format("%s-%04d", prefix, number);
+    return generate(prefix, RandomHelper.getRandom());
+  }
+
+  public static String generate(String prefix, Random random) {
+    return generate(prefix, RandomHelper.getRandomInt(random, 1000, 9999));
+  }
+
+  // Equivale a String.format("%s-%04d") sin el costo de interpretar el formato
+  public static String generate(String prefix, int number) {
+    if (number < 0) return String.format("%s-%04d", prefix, number);
+
+    String digits = Integer.toString(number);
+    StringBuilder builder = new StringBuilder(prefix.length() + 5).append(prefix).append('-');
+    for (int i = digits.length(); i < 4; i++) {
+      builder.append('0');
+    }
+    return builder.append(digits).toString();
   }
 }
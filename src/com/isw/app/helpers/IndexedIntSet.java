@@ -0,0 +1,60 @@
+package com.isw.app.helpers;
+
+import java.util.Arrays;
+
+// Conjunto de enteros con alta, baja y pertenencia en O(1). Varios conjuntos
+// disjuntos pueden compartir el arreglo de posiciones para ahorrar memoria
+public class IndexedIntSet {
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int[] positions;
+  private int[] values = new int[INITIAL_CAPACITY];
+  private int size;
+
+  public IndexedIntSet(int universe) {
+    this(new int[universe]);
+  }
+
+  public IndexedIntSet(int[] positions) {
+    this.positions = positions;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public int get(int position) {
+    return values[position];
+  }
+
+  public boolean contains(int value) {
+    int position = positions[value];
+    return position < size && values[position] == value;
+  }
+
+  public boolean add(int value) {
+    if (contains(value)) return false;
+
+    if (size == values.length) {
+      values = Arrays.copyOf(values, Math.min(positions.length, size * 2));
+    }
+    values[size] = value;
+    positions[value] = size++;
+    return true;
+  }
+
+  // Se mueve el ultimo elemento al hueco; el orden no se conserva
+  public boolean remove(int value) {
+    if (!contains(value)) return false;
+
+    int position = positions[value];
+    int last = values[--size];
+    values[position] = last;
+    positions[last] = position;
+    return true;
+  }
+}
@@ -5,7 +5,16 @@ import java.util.Random;
 public class RandomHelper {
   private static final Random random = new Random();
 
+  // Fuente compartida sin semilla; las corridas reproducibles reciben su propio Random
+  public static Random getRandom() {
+    return random;
+  }
+
   public static int getRandomInt(int min, int max) {
+    return getRandomInt(random, min, max);
+  }
+
+  public static int getRandomInt(Random random, int min, int max) {
     return random.nextInt(max - min + 1) + min;
   }
 }
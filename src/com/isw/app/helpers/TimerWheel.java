@@ -0,0 +1,77 @@
+package com.isw.app.helpers;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Rueda de temporizadores: cada valor se guarda en la ranura de su vencimiento
+// (modulo el numero de ranuras) y advance solo recorre las ranuras que pasaron
+public class TimerWheel {
+  private static final int DEFAULT_SLOTS = 64;
+  private static final int INITIAL_SLOT_CAPACITY = 4;
+
+  private final int[][] values;
+  private final int[][] expiries;
+  private final int[] sizes;
+  private int cursor = -1;
+  private int size;
+
+  public TimerWheel() {
+    this(DEFAULT_SLOTS);
+  }
+
+  public TimerWheel(int slots) {
+    this.values = new int[slots][];
+    this.expiries = new int[slots][];
+    this.sizes = new int[slots];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  // Un vencimiento ya pasado se entrega en el siguiente avance
+  public void schedule(int value, int expiry) {
+    int slot = Math.floorMod(Math.max(expiry, cursor + 1), sizes.length);
+    if (values[slot] == null) {
+      values[slot] = new int[INITIAL_SLOT_CAPACITY];
+      expiries[slot] = new int[INITIAL_SLOT_CAPACITY];
+    } else if (sizes[slot] == values[slot].length) {
+      values[slot] = Arrays.copyOf(values[slot], sizes[slot] * 2);
+      expiries[slot] = Arrays.copyOf(expiries[slot], sizes[slot] * 2);
+    }
+
+    values[slot][sizes[slot]] = value;
+    expiries[slot][sizes[slot]++] = expiry;
+    size++;
+  }
+
+  // Entrega los valores con vencimiento <= now recorriendo solo las ranuras nuevas
+  public void advance(int now, IntConsumer onExpired) {
+    if (now <= cursor) return;
+
+    if (size > 0) {
+      int slots = (int) Math.min(sizes.length, (long) now - cursor);
+      for (int i = 1; i <= slots; i++) {
+        drain(Math.floorMod(cursor + i, sizes.length), now, onExpired);
+      }
+    }
+    cursor = now;
+  }
+
+  private void drain(int slot, int now, IntConsumer onExpired) {
+    int[] slotValues = values[slot];
+    int[] slotExpiries = expiries[slot];
+    int kept = 0;
+
+    for (int i = 0; i < sizes[slot]; i++) {
+      if (slotExpiries[i] <= now) {
+        size--;
+        onExpired.accept(slotValues[i]);
+      } else {
+        slotValues[kept] = slotValues[i];
+        slotExpiries[kept++] = slotExpiries[i];
+      }
+    }
+    sizes[slot] = kept;
+  }
+}
@@ -5,6 +5,7 @@ import java.io.IOException;
 
 public class TxtQueryHelper {
   private static final String DELIMITER = "$";
+  private static final String NEW_LINE = System.lineSeparator();
 
   public static void writeDelimiter(BufferedWriter writer) throws IOException {
     writer.write(DELIMITER);
@@ -15,4 +16,12 @@ public class TxtQueryHelper {
     writer.write(value);
     writer.newLine();
   }
+
+  public static void writeDelimiter(StringBuilder builder) {
+    builder.append(DELIMITER).append(NEW_LINE);
+  }
+
+  public static void writeField(StringBuilder builder, String value) {
+    builder.append(value).append(NEW_LINE);
+  }
 }
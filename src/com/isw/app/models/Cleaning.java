@@ -1,11 +1,13 @@
 package com.isw.app.models;
 
 import java.util.List;
+import java.util.Random;
 import com.isw.app.enums.SectorType;
+import com.isw.app.helpers.RandomHelper;
 import com.isw.app.helpers.IdentifierHelper;
 
 public class Cleaning {
-  private final String PREFIX = "CLN";
+  private static final String PREFIX = "CLN";
 
   private String uuid;
   private Room room;
@@ -17,7 +19,11 @@ public class Cleaning {
   private int initialDirtySectors;
 
   public Cleaning(Room room, List<Robot> robots) {
-    this.uuid = IdentifierHelper.generate(PREFIX);
+    this(room, robots, RandomHelper.getRandom());
+  }
+
+  public Cleaning(Room room, List<Robot> robots, Random random) {
+    this.uuid = IdentifierHelper.generate(PREFIX, random);
     this.room = room;
     this.robots = robots;
     this.isActive = false;
@@ -0,0 +1,110 @@
+package com.isw.app.models;
+
+import java.util.List;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import com.isw.app.enums.SectorType;
+
+public class DistanceField {
+  public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+  private final int cols;
+  private final int[] distances;
+  private final int[] sources;
+  private final List<Coord> targets;
+  private final long version;
+
+  private DistanceField(int cols, int[] distances, int[] sources, List<Coord> targets, long version) {
+    this.cols = cols;
+    this.distances = distances;
+    this.sources = sources;
+    this.targets = targets;
+    this.version = version;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public int distanceFrom(Coord coord) {
+    return distances[coord.getRow() * cols + coord.getCol()];
+  }
+
+  // Objetivo del que llego la inundacion, es decir el mas cercano caminando;
+  // null si ninguno es alcanzable
+  public Coord nearestTargetFrom(Coord coord) {
+    int index = coord.getRow() * cols + coord.getCol();
+    return distances[index] != UNREACHABLE ? targets.get(sources[index]) : null;
+  }
+
+  // Inundacion BFS inversa desde el objetivo: distances[i] es la longitud del
+  // camino que findShortestPath devolveria desde i hasta el objetivo
+  public static DistanceField fromTarget(Room room, Coord target) {
+    return fromTargets(room, Collections.singletonList(target));
+  }
+
+  // BFS multi-origen: cada celda guarda la distancia al objetivo mas cercano
+  // y cual es ese objetivo
+  public static DistanceField fromTargets(Room room, Collection<Coord> targets) {
+    int rows = room.getRows();
+    int cols = room.getCols();
+    int[] distances = new int[rows * cols];
+    int[] sources = new int[rows * cols];
+    List<Coord> origins = new ArrayList<>(targets);
+    Arrays.fill(distances, UNREACHABLE);
+
+    int[] queue = new int[rows * cols];
+    int head = 0;
+    int tail = 0;
+
+    for (int i = 0; i < origins.size(); i++) {
+      Coord target = origins.get(i);
+      int goal = target.getRow() * cols + target.getCol();
+      if (distances[goal] == 0) continue;
+
+      distances[goal] = 0;
+      sources[goal] = i;
+      if (isEnterable(room, target.getRow(), target.getCol(), true)) {
+        queue[tail++] = goal;
+      }
+    }
+
+    while (head < tail) {
+      int current = queue[head++];
+      int row = current / cols;
+      int col = current % cols;
+      int next = distances[current] + 1;
+      int source = sources[current];
+
+      tail = visit(room, row - 1, col, next, source, distances, sources, queue, tail);
+      tail = visit(room, row + 1, col, next, source, distances, sources, queue, tail);
+      tail = visit(room, row, col - 1, next, source, distances, sources, queue, tail);
+      tail = visit(room, row, col + 1, next, source, distances, sources, queue, tail);
+    }
+
+    return new DistanceField(cols, distances, sources, origins, room.getNavigationVersion());
+  }
+
+  private static int visit(Room room, int row, int col, int distance, int source, int[] distances, int[] sources,
+      int[] queue, int tail) {
+    if (row < 0 || row >= room.getRows() || col < 0 || col >= room.getCols()) return tail;
+
+    int index = row * room.getCols() + col;
+    if (distances[index] != UNREACHABLE) return tail;
+
+    // Cualquier celda puede ser origen, pero solo las transitables propagan
+    distances[index] = distance;
+    sources[index] = source;
+    if (isEnterable(room, row, col, false)) {
+      queue[tail++] = index;
+    }
+    return tail;
+  }
+
+  private static boolean isEnterable(Room room, int row, int col, boolean isGoal) {
+    SectorType type = room.getTypeAt(row, col);
+    return type == SectorType.CLEAN || type == SectorType.DIRTY || (isGoal && type == SectorType.RECHARGE);
+  }
+}
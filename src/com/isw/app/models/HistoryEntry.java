@@ -0,0 +1,71 @@
+package com.isw.app.models;
+
+import com.isw.app.enums.RobotState;
+
+public class HistoryEntry {
+  // Copia del estado del robot al momento del paso; el robot sigue mutando
+  private final int step;
+  private final int robotIndex;
+  private final String robotUuid;
+  private final boolean moved;
+  private final int row;
+  private final int col;
+  private final RobotState state;
+  private final int battery;
+
+  public HistoryEntry(int step, int robotIndex, Decision decision) {
+    Robot robot = decision.getRobot();
+    this.step = step;
+    this.robotIndex = robotIndex;
+    this.robotUuid = robot.getUuid();
+    this.moved = decision.hasValidMovement();
+    this.row = robot.getCoord().getRow();
+    this.col = robot.getCoord().getCol();
+    this.state = robot.getState();
+    this.battery = robot.getBattery();
+  }
+
+  public HistoryEntry(int step, int robotIndex, String robotUuid, boolean moved, int row, int col,
+      RobotState state, int battery) {
+    this.step = step;
+    this.robotIndex = robotIndex;
+    this.robotUuid = robotUuid;
+    this.moved = moved;
+    this.row = row;
+    this.col = col;
+    this.state = state;
+    this.battery = battery;
+  }
+
+  public int getStep() {
+    return step;
+  }
+
+  public int getRobotIndex() {
+    return robotIndex;
+  }
+
+  public String getRobotUuid() {
+    return robotUuid;
+  }
+
+  public boolean hasMoved() {
+    return moved;
+  }
+
+  public int getRow() {
+    return row;
+  }
+
+  public int getCol() {
+    return col;
+  }
+
+  public RobotState getState() {
+    return state;
+  }
+
+  public int getBattery() {
+    return battery;
+  }
+}
@@ -0,0 +1,66 @@
+package com.isw.app.models;
+
+import com.isw.app.enums.HistoryFormat;
+import com.isw.app.enums.BackpressurePolicy;
+
+public class JournalConfig {
+  private static final int DEFAULT_CAPACITY = 8192;
+  private static final int DEFAULT_BATCH_SIZE = 512;
+  private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+
+  private final int capacity;
+  private final int batchSize;
+  private final long flushIntervalMillis;
+  private final BackpressurePolicy policy;
+  private final HistoryFormat format;
+
+  public JournalConfig(int capacity, int batchSize, long flushIntervalMillis, BackpressurePolicy policy) {
+    this(capacity, batchSize, flushIntervalMillis, policy, HistoryFormat.TEXT);
+  }
+
+  public JournalConfig(int capacity, int batchSize, long flushIntervalMillis, BackpressurePolicy policy,
+      HistoryFormat format) {
+    if (capacity <= 0 || batchSize <= 0 || batchSize > capacity) {
+      throw new IllegalArgumentException("Capacidad o lote invalidos: " + capacity + "/" + batchSize);
+    }
+    if (flushIntervalMillis <= 0) {
+      throw new IllegalArgumentException("Intervalo de escritura invalido: " + flushIntervalMillis);
+    }
+
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.policy = policy;
+    this.format = format;
+  }
+
+  public static JournalConfig defaults() {
+    return new JournalConfig(DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS,
+        BackpressurePolicy.BLOCK);
+  }
+
+  // El texto legible es el formato por defecto; binario y mapeado se piden explicitamente
+  public JournalConfig withFormat(HistoryFormat format) {
+    return new JournalConfig(capacity, batchSize, flushIntervalMillis, policy, format);
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public long getFlushIntervalMillis() {
+    return flushIntervalMillis;
+  }
+
+  public BackpressurePolicy getPolicy() {
+    return policy;
+  }
+
+  public HistoryFormat getFormat() {
+    return format;
+  }
+}
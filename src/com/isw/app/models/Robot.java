@@ -1,6 +1,8 @@
 package com.isw.app.models;
 
+import java.util.Random;
 import com.isw.app.enums.RobotState;
+import com.isw.app.helpers.RandomHelper;
 import com.isw.app.helpers.IdentifierHelper;
 
 public class Robot {
@@ -18,7 +20,11 @@ public class Robot {
   private Coord lastRechargePosition;
 
   public Robot(Coord coord) {
-    this.uuid = IdentifierHelper.generate(PREFIX);
+    this(coord, RandomHelper.getRandom());
+  }
+
+  public Robot(Coord coord, Random random) {
+    this.uuid = IdentifierHelper.generate(PREFIX, random);
     this.coord = coord;
     this.battery = INITIAL_BATTERY;
     this.state = RobotState.ACTIVE;
@@ -75,7 +81,10 @@ public class Robot {
     this.lastRechargePosition = null;
   }
 
+  // Sin estacion alcanzable solo cuenta el umbral critico; sumar a UNREACHABLE desborda
   public boolean shouldSeekRecharge(int distanceToNearestRecharge) {
-    return battery <= CRITICAL_BATTERY || battery <= distanceToNearestRecharge + CRITICAL_BATTERY;
+    if (battery <= CRITICAL_BATTERY) return true;
+    return distanceToNearestRecharge != DistanceField.UNREACHABLE &&
+        battery <= distanceToNearestRecharge + CRITICAL_BATTERY;
   }
 }
@@ -2,30 +2,67 @@ package com.isw.app.models;
 
 import java.util.Map;
 import java.util.List;
+import java.util.BitSet;
+import java.util.Random;
 import java.util.HashMap;
 import java.util.ArrayList;
-import java.util.stream.IntStream;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
 import com.isw.app.enums.SectorType;
+import com.isw.app.helpers.BucketGrid;
+import com.isw.app.helpers.TimerWheel;
+import com.isw.app.helpers.IndexedIntSet;
 import com.isw.app.helpers.RandomHelper;
 import com.isw.app.helpers.IdentifierHelper;
 
 public class Room {
-  private final String PREFIX = "ROO";
-  private static final int MAX_RECHARGE = 4;
+  private static final String PREFIX = "ROO";
+  public static final int MAX_RECHARGE = 4;
+  private static final SectorType[] TYPES = SectorType.values();
 
-  private final int ROWS = RandomHelper.getRandomInt(3, 10);
-  private final int COLS = RandomHelper.getRandomInt(3, 10);
+  private final int ROWS;
+  private final int COLS;
+
+  // Almacenamiento compacto indexado por row * COLS + col
+  private final byte[] types;
+  private final byte[] temporaryTimers;
+  private final BitSet occupied;
+
+  // Indices vivos de los tipos que se consultan en cada paso; los tipos son
+  // excluyentes, asi que comparten el arreglo de posiciones
+  private final IndexedIntSet[] typeIndexes = new IndexedIntSet[TYPES.length];
+  private final BucketGrid dirtyGrid;
+  private final TimerWheel temporaryWheel = new TimerWheel();
+  private DistanceField rechargeField;
 
   private String uuid;
-  private Sector[][] sectors = new Sector[ROWS][COLS];
+  private Sector[][] sectors;
   private Map<SectorType, Integer> counter = new HashMap<>();
+  private long navigationVersion;
+  private long temporaryStartTime;
+  private boolean stepTimers;
+  private int elapsedSteps;
+
+  public Room(int rows, int cols, byte[] types, byte[] temporaryTimers) {
+    this(rows, cols, types, temporaryTimers, RandomHelper.getRandom());
+  }
+
+  public Room(int rows, int cols, byte[] types, byte[] temporaryTimers, Random random) {
+    this(IdentifierHelper.generate(PREFIX, random), rows, cols, types, temporaryTimers);
+  }
+
+  public Room(String uuid, int rows, int cols, byte[] types, byte[] temporaryTimers) {
+    if (types.length != rows * cols || temporaryTimers.length != rows * cols) {
+      throw new IllegalArgumentException("El tablero no coincide con " + rows + "x" + cols);
+    }
 
-  public Room() {
-    this.uuid = IdentifierHelper.generate(PREFIX);
+    this.ROWS = rows;
+    this.COLS = cols;
+    this.types = types;
+    this.temporaryTimers = temporaryTimers;
+    this.occupied = new BitSet(rows * cols);
+    this.uuid = uuid;
+    this.dirtyGrid = new BucketGrid(rows, cols);
     setupSectorCounter();
-    setupSectorBoard();
+    setupTypeIndexes();
   }
 
   public int getRows() {
@@ -41,6 +78,14 @@ public class Room {
   }
 
   public Sector[][] getSectors() {
+    if (sectors == null) {
+      sectors = new Sector[ROWS][COLS];
+      for (int row = 0; row < ROWS; row++) {
+        for (int col = 0; col < COLS; col++) {
+          sectors[row][col] = new Sector(this, indexOf(row, col));
+        }
+      }
+    }
     return sectors;
   }
 
@@ -49,7 +94,42 @@ public class Room {
   }
 
   public Sector getSectorAt(Coord coord) {
-    return sectors[coord.getRow()][coord.getCol()];
+    return sectors != null
+        ? sectors[coord.getRow()][coord.getCol()]
+        : new Sector(this, indexOf(coord));
+  }
+
+  public SectorType getTypeAt(Coord coord) {
+    return TYPES[types[indexOf(coord)]];
+  }
+
+  public SectorType getTypeAt(int row, int col) {
+    return TYPES[types[indexOf(row, col)]];
+  }
+
+  // Copia de los tipos por row * COLS + col, para leerla fuera del hilo de la simulacion
+  public byte[] copyTypes() {
+    return types.clone();
+  }
+
+  public int getTemporaryTimerAt(int row, int col) {
+    return temporaryTimers[indexOf(row, col)];
+  }
+
+  public boolean isEmptyAt(Coord coord) {
+    return !occupied.get(indexOf(coord));
+  }
+
+  public boolean isEmptyAt(int row, int col) {
+    return !occupied.get(indexOf(row, col));
+  }
+
+  public boolean isNavigableAt(Coord coord) {
+    return isNavigable(indexOf(coord));
+  }
+
+  public long getNavigationVersion() {
+    return navigationVersion;
   }
 
   public Map<SectorType, Integer> getSectorCounter() {
@@ -57,29 +137,30 @@ public class Room {
   }
 
   private void setupSectorCounter() {
-    for (SectorType type : SectorType.values()) {
-      counter.put(type, 0);
+    int[] counts = new int[TYPES.length];
+    for (byte type : types) {
+      counts[type]++;
     }
-  }
 
-  private void setupSectorBoard() {
-    for (int row = 0; row < ROWS; row++) {
-      for (int col = 0; col < COLS; col++) {
-        SectorType type = determineValidSectorType();
-        sectors[row][col] = new Sector(new Coord(row, col), type);
-        counter.merge(type, 1, Integer::sum);
-      }
+    for (SectorType type : TYPES) {
+      counter.put(type, counts[type.ordinal()]);
     }
   }
 
-  private SectorType determineValidSectorType() {
-    SectorType type = SectorType.getRandomType();
-    
-    if (type == SectorType.RECHARGE && counter.getOrDefault(SectorType.RECHARGE, 0) >= MAX_RECHARGE) {
-      return SectorType.CLEAN;
+  private void setupTypeIndexes() {
+    int[] positions = new int[types.length];
+    for (SectorType type : new SectorType[] { SectorType.DIRTY, SectorType.RECHARGE, SectorType.TEMPORARY }) {
+      typeIndexes[type.ordinal()] = new IndexedIntSet(positions);
+    }
+
+    byte dirty = (byte) SectorType.DIRTY.ordinal();
+    byte temporary = (byte) SectorType.TEMPORARY.ordinal();
+    for (int index = 0; index < types.length; index++) {
+      IndexedIntSet typeIndex = typeIndexes[types[index]];
+      if (typeIndex != null) typeIndex.add(index);
+      if (types[index] == dirty) dirtyGrid.add(index);
+      if (types[index] == temporary) temporaryWheel.schedule(index, temporaryTimers[index]);
     }
-    
-    return type;
   }
 
   public boolean isValidCoord(Coord coord) {
@@ -87,26 +168,45 @@ public class Room {
   }
 
   public List<Coord> getAllCoords() {
-    return IntStream.range(0, ROWS)
-        .boxed()
-        .flatMap(row -> IntStream.range(0, COLS)
-            .mapToObj(col -> new Coord(row, col)))
-        .collect(Collectors.toList());
+    List<Coord> coords = new ArrayList<>(types.length);
+    for (int index = 0; index < types.length; index++) {
+      coords.add(coordOf(index));
+    }
+    return coords;
   }
 
   public List<Coord> getCoordsByType(SectorType type) {
-    return getAllCoords().stream()
-        .filter(coord -> getSectorAt(coord).getType() == type)
-        .collect(Collectors.toList());
+    IndexedIntSet typeIndex = typeIndexes[type.ordinal()];
+    if (typeIndex != null) {
+      List<Coord> coords = new ArrayList<>(typeIndex.size());
+      for (int i = 0; i < typeIndex.size(); i++) {
+        coords.add(coordOf(typeIndex.get(i)));
+      }
+      return coords;
+    }
+
+    byte ordinal = (byte) type.ordinal();
+    List<Coord> coords = new ArrayList<>();
+
+    for (int index = 0; index < types.length; index++) {
+      if (types[index] == ordinal) {
+        coords.add(coordOf(index));
+      }
+    }
+
+    return coords;
   }
 
   public List<Coord> getEmptyCoords() {
-    return getAllCoords().stream()
-        .filter(coord -> {
-          Sector sector = getSectorAt(coord);
-          return sector.isEmpty() && sector.isNavigable();
-        })
-        .collect(Collectors.toList());
+    List<Coord> coords = new ArrayList<>();
+
+    for (int index = occupied.nextClearBit(0); index < types.length; index = occupied.nextClearBit(index + 1)) {
+      if (isNavigable(index)) {
+        coords.add(coordOf(index));
+      }
+    }
+
+    return coords;
   }
 
   public boolean hasDirtySectorsNearby(Coord center, int radius) {
@@ -114,14 +214,19 @@ public class Room {
     int maxRow = Math.min(ROWS - 1, center.getRow() + radius);
     int minCol = Math.max(0, center.getCol() - radius);
     int maxCol = Math.min(COLS - 1, center.getCol() + radius);
+    byte dirty = (byte) SectorType.DIRTY.ordinal();
 
-    return IntStream.rangeClosed(minRow, maxRow)
-        .anyMatch(row -> IntStream.rangeClosed(minCol, maxCol)
-            .anyMatch(col -> getSectorAt(new Coord(row, col)).getType() == SectorType.DIRTY));
+    for (int row = minRow; row <= maxRow; row++) {
+      for (int index = indexOf(row, minCol); index <= indexOf(row, maxCol); index++) {
+        if (types[index] == dirty) return true;
+      }
+    }
+
+    return false;
   }
 
   public void setSectorOccupied(Coord coord, boolean occupied) {
-    getSectorAt(coord).setIsEmpty(!occupied);
+    this.occupied.set(indexOf(coord), occupied);
   }
 
   public void decrementSectorCount(SectorType type) {
@@ -136,34 +241,83 @@ public class Room {
     return getCoordsByType(SectorType.RECHARGE);
   }
 
+  // Distancia real caminando; el campo se reconstruye solo si cambian los obstaculos
   public int getDistanceToNearestRecharge(Coord coord) {
-    return getRechargeCoords().stream()
-        .mapToInt(coord::distanceTo)
-        .min()
-        .orElse(Integer.MAX_VALUE);
+    return getRechargeField().distanceFrom(coord);
+  }
+
+  // La estacion mas cercana caminando, no por Manhattan; null si no hay camino
+  public Coord findNearestRecharge(Coord coord) {
+    return getRechargeField().nearestTargetFrom(coord);
+  }
+
+  private DistanceField getRechargeField() {
+    if (rechargeField == null || rechargeField.getVersion() != navigationVersion) {
+      rechargeField = DistanceField.fromTargets(this, getRechargeCoords());
+    }
+    return rechargeField;
   }
 
   public int getDistanceToNearestDirty(Coord coord) {
-    return getCoordsByType(SectorType.DIRTY).stream()
-        .mapToInt(coord::distanceTo)
-        .min()
-        .orElse(Integer.MAX_VALUE);
+    Coord nearest = findNearestDirty(coord);
+    return nearest != null ? coord.distanceTo(nearest) : Integer.MAX_VALUE;
+  }
+
+  public Coord findNearestDirty(Coord from) {
+    int index = dirtyGrid.nearest(from.getRow(), from.getCol());
+    return index != BucketGrid.NONE ? coordOf(index) : null;
+  }
+
+  public List<Coord> findNearestDirty(Coord from, int count) {
+    return toCoords(dirtyGrid.nearest(from.getRow(), from.getCol(), count));
+  }
+
+  public List<Coord> getDirtyWithin(Coord center, int radius) {
+    return toCoords(dirtyGrid.within(center.getRow(), center.getCol(), radius));
+  }
+
+  private List<Coord> toCoords(int[] indexes) {
+    List<Coord> coords = new ArrayList<>(indexes.length);
+    for (int index : indexes) {
+      coords.add(coordOf(index));
+    }
+    return coords;
+  }
+
+  // En modo por pasos los temporizadores cuentan pasos de simulacion en vez de segundos
+  public void setStepTimers(boolean stepTimers) {
+    this.stepTimers = stepTimers;
+  }
+
+  public boolean usesStepTimers() {
+    return stepTimers;
+  }
+
+  public void advanceStep() {
+    elapsedSteps++;
   }
 
   public void startTemporaryTimers() {
-    forEachSector(sector -> {
-      if (sector.getType() == SectorType.TEMPORARY) {
-        sector.startTemporaryTimer();
-      }
-    });
+    if (temporaryStartTime == 0) {
+      temporaryStartTime = System.currentTimeMillis();
+    }
   }
 
   public List<Coord> updateTemporaryTimers() {
     List<Coord> changedSectors = new ArrayList<>();
 
-    forEachSector(sector -> {
-      if (sector.updateTemporaryTimer()) {
-        changedSectors.add(sector.getCoord());
+    if (temporaryStartTime == 0) {
+      startTemporaryTimers();
+      return changedSectors;
+    }
+
+    // Solo se visitan los sectores que vencen; las entradas de sectores que ya
+    // dejaron de ser temporales se descartan al salir de la rueda
+    int elapsed = getElapsedTime();
+    temporaryWheel.advance(elapsed, index -> {
+      if (types[index] == SectorType.TEMPORARY.ordinal() && elapsed >= temporaryTimers[index]) {
+        convertToClean(index);
+        changedSectors.add(coordOf(index));
         decrementSectorCount(SectorType.TEMPORARY);
         incrementSectorCount(SectorType.CLEAN);
       }
@@ -172,11 +326,92 @@ public class Room {
     return changedSectors;
   }
 
-  private void forEachSector(Consumer<Sector> action) {
-    for (int row = 0; row < ROWS; row++) {
-      for (int col = 0; col < COLS; col++) {
-        action.accept(sectors[row][col]);
-      }
+  SectorType getType(int index) {
+    return TYPES[types[index]];
+  }
+
+  void setType(int index, SectorType type) {
+    SectorType previous = TYPES[types[index]];
+    types[index] = (byte) type.ordinal();
+
+    if (previous != type) {
+      IndexedIntSet previousIndex = typeIndexes[previous.ordinal()];
+      IndexedIntSet nextIndex = typeIndexes[type.ordinal()];
+      if (previousIndex != null) previousIndex.remove(index);
+      if (nextIndex != null) nextIndex.add(index);
+
+      if (previous == SectorType.DIRTY) dirtyGrid.remove(index);
+      if (type == SectorType.DIRTY) dirtyGrid.add(index);
+      if (type == SectorType.TEMPORARY) temporaryWheel.schedule(index, temporaryTimers[index]);
+    }
+
+    // Limpiar un sector sucio no altera las rutas; cualquier otro cambio si
+    if (previous != type && (!isWalkable(previous) || !isWalkable(type))) {
+      navigationVersion++;
     }
   }
+
+  boolean isEmpty(int index) {
+    return !occupied.get(index);
+  }
+
+  void setEmpty(int index, boolean isEmpty) {
+    occupied.set(index, !isEmpty);
+  }
+
+  boolean isNavigable(int index) {
+    SectorType type = TYPES[types[index]];
+    return type != SectorType.OBSTRUCTED && type != SectorType.TEMPORARY;
+  }
+
+  Integer getTemporaryTimer(int index) {
+    return temporaryTimers[index] != 0 ? Integer.valueOf(temporaryTimers[index]) : null;
+  }
+
+  boolean updateTemporaryTimer(int index) {
+    if (temporaryTimers[index] == 0) return false;
+
+    if (temporaryStartTime == 0) {
+      startTemporaryTimers();
+      return false;
+    }
+
+    if (getElapsedTime() >= temporaryTimers[index]) {
+      convertToClean(index);
+      return true;
+    }
+
+    return false;
+  }
+
+  int getRemainingTime(int index) {
+    if (temporaryTimers[index] == 0 || temporaryStartTime == 0) return 0;
+    return Math.max(0, temporaryTimers[index] - getElapsedTime());
+  }
+
+  int indexOf(Coord coord) {
+    return coord.getRow() * COLS + coord.getCol();
+  }
+
+  int indexOf(int row, int col) {
+    return row * COLS + col;
+  }
+
+  Coord coordOf(int index) {
+    return new Coord(index / COLS, index % COLS);
+  }
+
+  private boolean isWalkable(SectorType type) {
+    return type == SectorType.CLEAN || type == SectorType.DIRTY;
+  }
+
+  private void convertToClean(int index) {
+    temporaryTimers[index] = 0;
+    setType(index, SectorType.CLEAN);
+  }
+
+  private int getElapsedTime() {
+    if (stepTimers) return elapsedSteps;
+    return (int) ((System.currentTimeMillis() - temporaryStartTime) / 1000);
+  }
 }
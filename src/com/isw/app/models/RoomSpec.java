@@ -0,0 +1,79 @@
+package com.isw.app.models;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.EnumMap;
+import com.isw.app.enums.SectorType;
+import com.isw.app.helpers.RandomHelper;
+
+public class RoomSpec {
+  private static final int MIN_RANDOM_SIZE = 3;
+  private static final int MAX_RANDOM_SIZE = 10;
+
+  private final int rows;
+  private final int cols;
+  private final long seed;
+  private final Map<SectorType, Integer> weights = new EnumMap<>(SectorType.class);
+  private boolean stepTimers;
+
+  public RoomSpec(int rows, int cols, long seed) {
+    if (rows <= 0 || cols <= 0) {
+      throw new IllegalArgumentException("Dimensiones invalidas: " + rows + "x" + cols);
+    }
+    if ((long) rows * cols > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Salon demasiado grande: " + rows + "x" + cols);
+    }
+
+    this.rows = rows;
+    this.cols = cols;
+    this.seed = seed;
+
+    for (SectorType type : SectorType.values()) {
+      weights.put(type, type.getWeight());
+    }
+  }
+
+  public static RoomSpec random() {
+    return random(RandomHelper.getRandom());
+  }
+
+  public static RoomSpec random(Random random) {
+    return new RoomSpec(
+        RandomHelper.getRandomInt(random, MIN_RANDOM_SIZE, MAX_RANDOM_SIZE),
+        RandomHelper.getRandomInt(random, MIN_RANDOM_SIZE, MAX_RANDOM_SIZE),
+        random.nextLong());
+  }
+
+  public RoomSpec withWeight(SectorType type, int weight) {
+    if (weight < 0) {
+      throw new IllegalArgumentException("Peso invalido para " + type.getLabel() + ": " + weight);
+    }
+    weights.put(type, weight);
+    return this;
+  }
+
+  public RoomSpec withStepTimers(boolean stepTimers) {
+    this.stepTimers = stepTimers;
+    return this;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getCols() {
+    return cols;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  public boolean usesStepTimers() {
+    return stepTimers;
+  }
+
+  public int getWeight(SectorType type) {
+    return weights.get(type);
+  }
+}
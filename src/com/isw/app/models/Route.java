@@ -0,0 +1,46 @@
+package com.isw.app.models;
+
+import java.util.List;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ArrayDeque;
+
+public class Route {
+  private final Coord target;
+  private final boolean allowRechargeTraversal;
+  private final Deque<Coord> steps;
+
+  public Route(Coord target, boolean allowRechargeTraversal, List<Coord> path) {
+    this.target = target;
+    this.allowRechargeTraversal = allowRechargeTraversal;
+    this.steps = new ArrayDeque<>(path);
+  }
+
+  public Coord getTarget() {
+    return target;
+  }
+
+  public boolean allowsRechargeTraversal() {
+    return allowRechargeTraversal;
+  }
+
+  public boolean isEmpty() {
+    return steps.isEmpty();
+  }
+
+  public Coord peekNext() {
+    return steps.peekFirst();
+  }
+
+  public void advance() {
+    steps.pollFirst();
+  }
+
+  public Iterator<Coord> iterator() {
+    return steps.iterator();
+  }
+
+  public boolean isFor(Coord target, boolean allowRechargeTraversal) {
+    return this.target.equals(target) && this.allowRechargeTraversal == allowRechargeTraversal;
+  }
+}
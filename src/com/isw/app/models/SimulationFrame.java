@@ -0,0 +1,151 @@
+package com.isw.app.models;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Collections;
+import com.isw.app.enums.SectorType;
+
+// Instantanea inmutable de un paso para la interfaz: posiciones de los robots,
+// sectores que cambiaron con su tipo nuevo y los numeros del reporte. La
+// interfaz no vuelve a leer el salon mientras la simulacion corre. Si no
+// alcanza a leer un cuadro, se combina con el siguiente para no perder sectores
+public class SimulationFrame {
+  private static final int MAX_CHANGED_COORDS = 65_536;
+
+  // Solo se usa en el hilo de la simulacion, al combinar cuadros
+  private final Room room;
+  private final List<Coord> robotCoords;
+  private final List<Coord> changedCoords;
+  private final List<SectorType> changedTypes;
+  private final byte[] types;
+  private final int totalSteps;
+  private final int cleanedSectors;
+  private final int initialDirtySectors;
+  private final double completionPercentage;
+  private final String missionStatus;
+  private final boolean finished;
+
+  private SimulationFrame(Room room, List<Coord> robotCoords, List<Coord> changedCoords,
+      List<SectorType> changedTypes, byte[] types, Cleaning cleaning, String missionStatus, boolean finished) {
+    this.room = room;
+    this.robotCoords = Collections.unmodifiableList(robotCoords);
+    this.changedCoords = Collections.unmodifiableList(changedCoords);
+    this.changedTypes = Collections.unmodifiableList(changedTypes);
+    this.types = types;
+    this.totalSteps = cleaning.getTotalSteps();
+    this.cleanedSectors = cleaning.getSectorsCleanedTotal();
+    this.initialDirtySectors = cleaning.getInitialDirtySectors();
+    this.completionPercentage = cleaning.getCompletionPercentage();
+    this.missionStatus = missionStatus;
+    this.finished = finished;
+  }
+
+  private SimulationFrame(SimulationFrame latest, List<Coord> changedCoords, List<SectorType> changedTypes,
+      byte[] types, boolean finished) {
+    this.room = latest.room;
+    this.robotCoords = latest.robotCoords;
+    this.changedCoords = Collections.unmodifiableList(changedCoords);
+    this.changedTypes = Collections.unmodifiableList(changedTypes);
+    this.types = types;
+    this.totalSteps = latest.totalSteps;
+    this.cleanedSectors = latest.cleanedSectors;
+    this.initialDirtySectors = latest.initialDirtySectors;
+    this.completionPercentage = latest.completionPercentage;
+    this.missionStatus = latest.missionStatus;
+    this.finished = finished;
+  }
+
+  // Debe llamarse en el hilo de la simulacion, antes del siguiente paso
+  public static SimulationFrame of(StepResult result, Cleaning cleaning, String missionStatus) {
+    Room room = cleaning.getRoom();
+    List<Coord> changed = new ArrayList<>(result.getChangedCoords());
+    List<SectorType> changedTypes = new ArrayList<>(changed.size());
+    for (Coord coord : changed) {
+      changedTypes.add(room.getTypeAt(coord));
+    }
+
+    return new SimulationFrame(room, coordsOf(result.getRobots()), changed, changedTypes, null, cleaning,
+        missionStatus, result.isComplete());
+  }
+
+  public static SimulationFrame finished(Cleaning cleaning, String missionStatus) {
+    return new SimulationFrame(cleaning.getRoom(), coordsOf(cleaning.getRobots()), new ArrayList<>(),
+        new ArrayList<>(), null, cleaning, missionStatus, true);
+  }
+
+  public List<Coord> getRobotCoords() {
+    return robotCoords;
+  }
+
+  public List<Coord> getChangedCoords() {
+    return changedCoords;
+  }
+
+  // Tipo nuevo de cada sector de getChangedCoords, en el mismo orden
+  public List<SectorType> getChangedTypes() {
+    return changedTypes;
+  }
+
+  public int getTotalSteps() {
+    return totalSteps;
+  }
+
+  public int getCleanedSectors() {
+    return cleanedSectors;
+  }
+
+  public int getInitialDirtySectors() {
+    return initialDirtySectors;
+  }
+
+  public double getCompletionPercentage() {
+    return completionPercentage;
+  }
+
+  public String getMissionStatus() {
+    return missionStatus;
+  }
+
+  // Demasiados cambios acumulados: el cuadro trae todos los tipos del salon
+  public boolean isFullRefresh() {
+    return types != null;
+  }
+
+  // Tipos por row * cols + col; solo existe si isFullRefresh
+  public byte[] getTypes() {
+    return types;
+  }
+
+  public boolean isFinished() {
+    return finished;
+  }
+
+  // Combina este cuadro con uno anterior que la interfaz no alcanzo a leer.
+  // Se llama en el hilo de la simulacion, asi la copia del salon es coherente
+  public SimulationFrame mergeAfter(SimulationFrame previous) {
+    boolean done = finished || previous.finished;
+    if (isFullRefresh()) {
+      return new SimulationFrame(this, new ArrayList<>(), new ArrayList<>(), types, done);
+    }
+    if (previous.isFullRefresh() || previous.changedCoords.size() + changedCoords.size() > MAX_CHANGED_COORDS) {
+      return new SimulationFrame(this, new ArrayList<>(), new ArrayList<>(), room.copyTypes(), done);
+    }
+
+    List<Coord> changed = new ArrayList<>(previous.changedCoords.size() + changedCoords.size());
+    changed.addAll(previous.changedCoords);
+    changed.addAll(changedCoords);
+    List<SectorType> changedTypes = new ArrayList<>(changed.size());
+    changedTypes.addAll(previous.changedTypes);
+    changedTypes.addAll(this.changedTypes);
+
+    return new SimulationFrame(this, changed, changedTypes, null, done);
+  }
+
+  private static List<Coord> coordsOf(List<Robot> robots) {
+    List<Coord> coords = new ArrayList<>(robots.size());
+    for (Robot robot : robots) {
+      coords.add(robot.getCoord());
+    }
+    return coords;
+  }
+}
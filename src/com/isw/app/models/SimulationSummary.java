@@ -0,0 +1,71 @@
+package com.isw.app.models;
+
+public class SimulationSummary {
+  private final String roomUuid;
+  private final int rows;
+  private final int cols;
+  private final int robots;
+  private final int steps;
+  private final int initialDirtySectors;
+  private final int cleanedSectors;
+  private final double completionPercentage;
+  private final String status;
+  private final long elapsedNanos;
+
+  public SimulationSummary(Cleaning cleaning, String status, long elapsedNanos) {
+    this.roomUuid = cleaning.getRoom().getUuid();
+    this.rows = cleaning.getRoom().getRows();
+    this.cols = cleaning.getRoom().getCols();
+    this.robots = cleaning.getRobots().size();
+    this.steps = cleaning.getTotalSteps();
+    this.initialDirtySectors = cleaning.getInitialDirtySectors();
+    this.cleanedSectors = cleaning.getSectorsCleanedTotal();
+    this.completionPercentage = cleaning.getCompletionPercentage();
+    this.status = status;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public String getRoomUuid() {
+    return roomUuid;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getCols() {
+    return cols;
+  }
+
+  public int getRobots() {
+    return robots;
+  }
+
+  public int getSteps() {
+    return steps;
+  }
+
+  public int getInitialDirtySectors() {
+    return initialDirtySectors;
+  }
+
+  public int getCleanedSectors() {
+    return cleanedSectors;
+  }
+
+  public double getCompletionPercentage() {
+    return completionPercentage;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  public double getElapsedMillis() {
+    return elapsedNanos / 1_000_000.0;
+  }
+}
@@ -5,14 +5,16 @@ import java.util.List;
 public class StepResult {
   private final List<Robot> robots;
   private final List<Decision> decisions;
+  private final List<Coord> changedCoords;
   private final int sectorsCleanedThisStep;
   private final int totalSteps;
   private final boolean isComplete;
 
-  public StepResult(List<Robot> robots, List<Decision> decisions,
+  public StepResult(List<Robot> robots, List<Decision> decisions, List<Coord> changedCoords,
       int sectorsCleanedThisStep, int totalSteps, boolean isComplete) {
     this.robots = robots;
     this.decisions = decisions;
+    this.changedCoords = changedCoords;
     this.sectorsCleanedThisStep = sectorsCleanedThisStep;
     this.totalSteps = totalSteps;
     this.isComplete = isComplete;
@@ -26,6 +28,11 @@ public class StepResult {
     return decisions;
   }
 
+  // Celdas que cambiaron de tipo u ocupacion durante el paso
+  public List<Coord> getChangedCoords() {
+    return changedCoords;
+  }
+
   public int getSectorsCleanedThisStep() {
     return sectorsCleanedThisStep;
   }
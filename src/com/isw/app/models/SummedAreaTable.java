@@ -0,0 +1,47 @@
+package com.isw.app.models;
+
+import com.isw.app.enums.SectorType;
+
+public class SummedAreaTable {
+  private final int rows;
+  private final int cols;
+  private final int stride;
+  private final int[] sums;
+
+  private SummedAreaTable(int rows, int cols, int[] sums) {
+    this.rows = rows;
+    this.cols = cols;
+    this.stride = cols + 1;
+    this.sums = sums;
+  }
+
+  // sums[(r + 1) * (cols + 1) + (c + 1)] cuenta los sectores del tipo en [0..r] x [0..c]
+  public static SummedAreaTable of(Room room, SectorType type) {
+    int rows = room.getRows();
+    int cols = room.getCols();
+    int stride = cols + 1;
+    int[] sums = new int[(rows + 1) * stride];
+
+    for (int row = 0; row < rows; row++) {
+      int rowCount = 0;
+      int base = (row + 1) * stride;
+      for (int col = 0; col < cols; col++) {
+        if (room.getTypeAt(row, col) == type) rowCount++;
+        sums[base + col + 1] = sums[base - stride + col + 1] + rowCount;
+      }
+    }
+
+    return new SummedAreaTable(rows, cols, sums);
+  }
+
+  // Cantidad en la ventana cuadrada de radio dado, recortada a los bordes del salon
+  public int countAround(int row, int col, int radius) {
+    int top = Math.max(0, row - radius);
+    int left = Math.max(0, col - radius);
+    int bottom = Math.min(rows - 1, row + radius) + 1;
+    int right = Math.min(cols - 1, col + radius) + 1;
+
+    return sums[bottom * stride + right] - sums[top * stride + right] -
+        sums[bottom * stride + left] + sums[top * stride + left];
+  }
+}
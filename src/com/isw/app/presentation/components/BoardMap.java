@@ -0,0 +1,150 @@
+package com.isw.app.presentation.components;
+
+import java.awt.Point;
+import java.awt.Color;
+import java.util.List;
+import java.awt.Cursor;
+import java.awt.Dimension;
+import javax.swing.JPanel;
+import java.awt.BorderLayout;
+import javax.swing.JViewport;
+import javax.swing.JScrollPane;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseWheelEvent;
+import com.isw.app.models.Room;
+import com.isw.app.models.Robot;
+import com.isw.app.models.SimulationFrame;
+import javax.swing.border.EmptyBorder;
+
+// Mapa desplazable del salon: la rueda del raton acerca o aleja alrededor del
+// cursor y arrastrar mueve la vista. Solo se pinta la parte visible
+public class BoardMap extends JPanel {
+  private static final double ZOOM_STEP = 1.25;
+
+  private MapLayer mapLayer;
+  private JScrollPane scrollPane;
+  private Point dragOrigin;
+
+  public BoardMap() {
+    buildContainer();
+    buildMapLayer();
+    buildScrollPane();
+  }
+
+  private void buildContainer() {
+    this.setLayout(new BorderLayout());
+    this.setBackground(Color.DARK_GRAY);
+    this.setBorder(new EmptyBorder(20, 20, 20, 20));
+  }
+
+  private void buildMapLayer() {
+    mapLayer = new MapLayer();
+    MouseAdapter handler = new MouseAdapter() {
+      @Override
+      public void mousePressed(MouseEvent e) {
+        onDragStart(e);
+      }
+
+      @Override
+      public void mouseDragged(MouseEvent e) {
+        onDrag(e);
+      }
+
+      @Override
+      public void mouseReleased(MouseEvent e) {
+        onDragEnd();
+      }
+
+      @Override
+      public void mouseWheelMoved(MouseWheelEvent e) {
+        onZoom(e);
+      }
+    };
+    mapLayer.addMouseListener(handler);
+    mapLayer.addMouseMotionListener(handler);
+    mapLayer.addMouseWheelListener(handler);
+  }
+
+  private void buildScrollPane() {
+    scrollPane = new JScrollPane(mapLayer);
+    scrollPane.setBorder(null);
+    scrollPane.getViewport().setBackground(Color.DARK_GRAY);
+    scrollPane.getViewport().setScrollMode(JViewport.BLIT_SCROLL_MODE);
+    scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+    scrollPane.getHorizontalScrollBar().setUnitIncrement(16);
+    this.add(scrollPane, BorderLayout.CENTER);
+  }
+
+  public void onUpdateRoom(Room room) {
+    mapLayer.setRoom(room);
+    mapLayer.setScale(getFitScale(room));
+    scrollPane.getViewport().setViewPosition(new Point(0, 0));
+  }
+
+  public void onUpdateRobots(List<Robot> robots) {
+    if (!mapLayer.hasRoom()) return;
+    mapLayer.setRobots(robots);
+  }
+
+  public void onUpdateFrame(SimulationFrame frame) {
+    if (!mapLayer.hasRoom()) return;
+    mapLayer.applyFrame(frame);
+  }
+
+  // Escala inicial para que el salon completo quepa en la vista
+  private double getFitScale(Room room) {
+    Dimension extent = scrollPane.getViewport().getExtentSize();
+    if (extent.width <= 0 || extent.height <= 0) return MapLayer.MAX_SCALE;
+
+    return Math.min((double) extent.width / room.getCols(), (double) extent.height / room.getRows());
+  }
+
+  // El sector bajo el cursor queda en el mismo punto de la pantalla
+  private void onZoom(MouseWheelEvent e) {
+    if (!mapLayer.hasRoom()) return;
+
+    JViewport viewport = scrollPane.getViewport();
+    Point view = viewport.getViewPosition();
+    double previous = mapLayer.getScale();
+    double factor = Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation());
+    mapLayer.setScale(previous * factor);
+
+    double ratio = mapLayer.getScale() / previous;
+    int x = (int) Math.round(e.getX() * ratio) - (e.getX() - view.x);
+    int y = (int) Math.round(e.getY() * ratio) - (e.getY() - view.y);
+
+    viewport.setViewSize(mapLayer.getPreferredSize());
+    viewport.setViewPosition(clampViewPosition(x, y));
+  }
+
+  private void onDragStart(MouseEvent e) {
+    dragOrigin = e.getLocationOnScreen();
+    mapLayer.setCursor(Cursor.getPredefinedCursor(Cursor.MOVE_CURSOR));
+  }
+
+  private void onDrag(MouseEvent e) {
+    if (dragOrigin == null) return;
+
+    Point current = e.getLocationOnScreen();
+    Point view = scrollPane.getViewport().getViewPosition();
+    int x = view.x - (current.x - dragOrigin.x);
+    int y = view.y - (current.y - dragOrigin.y);
+    scrollPane.getViewport().setViewPosition(clampViewPosition(x, y));
+    dragOrigin = current;
+  }
+
+  private void onDragEnd() {
+    dragOrigin = null;
+    mapLayer.setCursor(Cursor.getDefaultCursor());
+  }
+
+  private Point clampViewPosition(int x, int y) {
+    JViewport viewport = scrollPane.getViewport();
+    Dimension view = viewport.getViewSize();
+    Dimension extent = viewport.getExtentSize();
+    return new Point(
+        Math.max(0, Math.min(x, view.width - extent.width)),
+        Math.max(0, Math.min(y, view.height - extent.height)));
+  }
+}
@@ -7,15 +7,23 @@ import java.awt.Dimension;
 import javax.swing.JPanel;
 import javax.swing.JButton;
 import javax.swing.JLabel;
+import javax.swing.JSlider;
+import javax.swing.JSpinner;
+import javax.swing.JCheckBox;
 import java.awt.GridLayout;
 import java.awt.BorderLayout;
 import java.awt.FlowLayout;
 import java.awt.event.ActionEvent;
 import javax.swing.SwingConstants;
 import javax.swing.border.EmptyBorder;
+import javax.swing.SpinnerNumberModel;
 import com.isw.app.enums.SectorType;
 
 public class ControlPanel extends JPanel {
+  // Pasos por segundo de cada posicion del deslizador; 0 es sin limite
+  private static final int[] SPEEDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 0 };
+  private static final int DEFAULT_SPEED = 1;
+  private static final int DEFAULT_TURBO_STEPS = 100;
 
   private JLabel titleLabel;
   private JButton exitButton;
@@ -24,10 +32,15 @@ public class ControlPanel extends JPanel {
   private JButton generateButton;
   private JPanel buttonPanel;
   private JPanel legendPanel;
+  private JLabel speedLabel;
+  private JSlider speedSlider;
+  private JCheckBox turboCheckBox;
+  private JSpinner turboStepsSpinner;
 
   private Runnable onGenerateCall;
   private Runnable onPlacedCall;
   private Runnable onSimulateCall;
+  private Runnable onSpeedChangeCall;
 
   public ControlPanel() {
     buildContainer();
@@ -36,6 +49,8 @@ public class ControlPanel extends JPanel {
     buildGenerateButton();
     buildPlaceButton();
     buildSimulateButton();
+    buildSpeedPanel();
+    buildTurboPanel();
     buildExitButton();
     buildLegendPanel();
   }
@@ -47,7 +62,7 @@ public class ControlPanel extends JPanel {
   private void buildButtonPanel() {
     buttonPanel = new JPanel();
     buttonPanel.setBackground(Color.LIGHT_GRAY);
-    buttonPanel.setLayout(new GridLayout(5, 1, 0, 10));
+    buttonPanel.setLayout(new GridLayout(7, 1, 0, 10));
     this.add(buttonPanel, BorderLayout.CENTER);
   }
 
@@ -83,6 +98,50 @@ public class ControlPanel extends JPanel {
     buttonPanel.add(simulateButton);
   }
 
+  private void buildSpeedPanel() {
+    JPanel speedPanel = new JPanel(new GridLayout(2, 1));
+    speedPanel.setBackground(Color.LIGHT_GRAY);
+
+    speedLabel = new JLabel();
+    speedLabel.setHorizontalAlignment(SwingConstants.CENTER);
+    speedLabel.setFont(new Font("Arial", Font.PLAIN, 10));
+    speedLabel.setForeground(Color.DARK_GRAY);
+
+    speedSlider = new JSlider(0, SPEEDS.length - 1, DEFAULT_SPEED);
+    speedSlider.setBackground(Color.LIGHT_GRAY);
+    speedSlider.setSnapToTicks(true);
+    speedSlider.setMajorTickSpacing(1);
+    speedSlider.addChangeListener(e -> onSpeedChange());
+
+    speedPanel.add(speedLabel);
+    speedPanel.add(speedSlider);
+    buttonPanel.add(speedPanel);
+    updateSpeedLabel();
+  }
+
+  private void buildTurboPanel() {
+    JPanel turboPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 5, 0));
+    turboPanel.setBackground(Color.LIGHT_GRAY);
+
+    turboCheckBox = new JCheckBox("Turbo");
+    turboCheckBox.setBackground(Color.LIGHT_GRAY);
+    turboCheckBox.setFocusPainted(false);
+    turboCheckBox.addActionListener(e -> onSpeedChange());
+
+    turboStepsSpinner = new JSpinner(new SpinnerNumberModel(DEFAULT_TURBO_STEPS, 2, 10_000, 10));
+    turboStepsSpinner.setPreferredSize(new Dimension(70, 24));
+    turboStepsSpinner.addChangeListener(e -> onSpeedChange());
+
+    JLabel stepsLabel = new JLabel("pasos/cuadro");
+    stepsLabel.setFont(new Font("Arial", Font.PLAIN, 10));
+    stepsLabel.setForeground(Color.DARK_GRAY);
+
+    turboPanel.add(turboCheckBox);
+    turboPanel.add(turboStepsSpinner);
+    turboPanel.add(stepsLabel);
+    buttonPanel.add(turboPanel);
+  }
+
   private void buildExitButton() {
     exitButton = new JButton("Salir");
     exitButton.setFocusPainted(false);
@@ -161,6 +220,37 @@ public class ControlPanel extends JPanel {
     }
   }
 
+  public void setOnSpeedChange(Runnable callback) {
+    this.onSpeedChangeCall = callback;
+  }
+
+  // Pasos por segundo elegidos; 0 significa sin limite
+  public int getStepsPerSecond() {
+    return SPEEDS[speedSlider.getValue()];
+  }
+
+  public boolean isTurboEnabled() {
+    return turboCheckBox.isSelected();
+  }
+
+  public int getTurboSteps() {
+    return (Integer) turboStepsSpinner.getValue();
+  }
+
+  // En turbo el ritmo lo marca la pantalla, no el deslizador
+  private void onSpeedChange() {
+    updateSpeedLabel();
+    speedSlider.setEnabled(!isTurboEnabled());
+    if (this.onSpeedChangeCall != null) {
+      this.onSpeedChangeCall.run();
+    }
+  }
+
+  private void updateSpeedLabel() {
+    int speed = getStepsPerSecond();
+    speedLabel.setText(speed == 0 ? "Velocidad: sin límite" : "Velocidad: " + speed + " pasos/s");
+  }
+
   private void onExit(ActionEvent e) {
     System.exit(0);
   }
@@ -0,0 +1,179 @@
+package com.isw.app.presentation.components;
+
+import java.util.Set;
+import java.awt.Color;
+import java.util.List;
+import java.awt.Graphics;
+import java.util.HashSet;
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import javax.swing.JComponent;
+import java.awt.image.BufferedImage;
+import com.isw.app.models.Room;
+import com.isw.app.models.Coord;
+import com.isw.app.models.Robot;
+import com.isw.app.enums.SectorType;
+import com.isw.app.models.SimulationFrame;
+
+// Capa de dibujo del mapa: solo pinta lo que cae dentro del area recortada.
+// Acercado dibuja sector por sector; alejado usa los mosaicos de TileCache.
+// Pinta desde la copia de tipos de TileCache, que solo cambia con los cuadros
+class MapLayer extends JComponent {
+  static final double MAX_SCALE = 40;
+  static final double MIN_SCALE = 1.0 / (1 << TileCache.MAX_LEVEL);
+  private static final double DETAIL_SCALE = 4;
+  private static final int MIN_BORDER_SCALE = 8;
+  private static final Color ROBOT_COLOR = new Color(30, 90, 200);
+
+  private TileCache tiles;
+  private double scale = MAX_SCALE;
+  private Set<Coord> robotCoords = new HashSet<>();
+
+  MapLayer() {
+    this.setOpaque(true);
+    this.setBackground(Color.DARK_GRAY);
+  }
+
+  boolean hasRoom() {
+    return tiles != null;
+  }
+
+  double getScale() {
+    return scale;
+  }
+
+  void setScale(double scale) {
+    this.scale = Math.max(MIN_SCALE, Math.min(MAX_SCALE, scale));
+    revalidate();
+    repaint();
+  }
+
+  // Se llama con la simulacion detenida, asi la copia del salon es coherente
+  void setRoom(Room room) {
+    this.tiles = new TileCache(room.getRows(), room.getCols(), room.copyTypes());
+    this.robotCoords = new HashSet<>();
+    revalidate();
+    repaint();
+  }
+
+  void setRobots(List<Robot> robots) {
+    robotCoords = new HashSet<>();
+    for (Robot robot : robots) {
+      robotCoords.add(robot.getCoord());
+    }
+    repaint();
+  }
+
+  void applyFrame(SimulationFrame frame) {
+    robotCoords = new HashSet<>(frame.getRobotCoords());
+    if (frame.isFullRefresh()) {
+      tiles.reset(frame.getTypes());
+      repaint();
+      return;
+    }
+
+    List<Coord> changed = frame.getChangedCoords();
+    List<SectorType> changedTypes = frame.getChangedTypes();
+    for (int i = 0; i < changed.size(); i++) {
+      Coord coord = changed.get(i);
+      tiles.update(coord.getRow(), coord.getCol(), changedTypes.get(i));
+      Rectangle bounds = cellBounds(coord.getRow(), coord.getCol());
+      repaint(bounds.x, bounds.y, bounds.width + 2, bounds.height + 2);
+    }
+  }
+
+  @Override
+  public Dimension getPreferredSize() {
+    if (tiles == null) return new Dimension(0, 0);
+    return new Dimension((int) Math.ceil(tiles.getCols() * scale), (int) Math.ceil(tiles.getRows() * scale));
+  }
+
+  @Override
+  protected void paintComponent(Graphics g) {
+    Rectangle clip = g.getClipBounds();
+    if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+
+    g.setColor(getBackground());
+    g.fillRect(clip.x, clip.y, clip.width, clip.height);
+    if (tiles == null) return;
+
+    if (scale >= DETAIL_SCALE) {
+      paintSectors(g, clip);
+    } else {
+      paintTiles(g, clip);
+    }
+    paintRobots(g, clip);
+  }
+
+  private void paintSectors(Graphics g, Rectangle clip) {
+    int firstRow = Math.max(0, (int) (clip.y / scale));
+    int lastRow = Math.min(tiles.getRows() - 1, (int) ((clip.y + clip.height) / scale));
+    int firstCol = Math.max(0, (int) (clip.x / scale));
+    int lastCol = Math.min(tiles.getCols() - 1, (int) ((clip.x + clip.width) / scale));
+
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int col = firstCol; col <= lastCol; col++) {
+        Rectangle bounds = cellBounds(row, col);
+        g.setColor(tiles.getTypeAt(row, col).getColor());
+        g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+
+        if (scale >= MIN_BORDER_SCALE) {
+          g.setColor(Color.BLACK);
+          g.drawRect(bounds.x, bounds.y, bounds.width - 1, bounds.height - 1);
+        }
+      }
+    }
+  }
+
+  private void paintTiles(Graphics g, Rectangle clip) {
+    int level = levelFor(scale);
+    int tileCells = TileCache.getTileCells(level);
+    double tileSize = tileCells * scale;
+
+    int firstTileRow = Math.max(0, (int) (clip.y / tileSize));
+    int lastTileRow = Math.min((tiles.getRows() - 1) / tileCells, (int) ((clip.y + clip.height) / tileSize));
+    int firstTileCol = Math.max(0, (int) (clip.x / tileSize));
+    int lastTileCol = Math.min((tiles.getCols() - 1) / tileCells, (int) ((clip.x + clip.width) / tileSize));
+
+    for (int tileRow = firstTileRow; tileRow <= lastTileRow; tileRow++) {
+      for (int tileCol = firstTileCol; tileCol <= lastTileCol; tileCol++) {
+        BufferedImage tile = tiles.get(level, tileRow, tileCol);
+        int x = (int) (tileCol * tileSize);
+        int y = (int) (tileRow * tileSize);
+        int width = (int) Math.ceil(Math.min(tiles.getCols(), (tileCol + 1) * tileCells) * scale) - x;
+        int height = (int) Math.ceil(Math.min(tiles.getRows(), (tileRow + 1) * tileCells) * scale) - y;
+        g.drawImage(tile, x, y, width, height, null);
+      }
+    }
+  }
+
+  private void paintRobots(Graphics g, Rectangle clip) {
+    g.setColor(ROBOT_COLOR);
+    for (Coord coord : robotCoords) {
+      Rectangle bounds = cellBounds(coord.getRow(), coord.getCol());
+      if (!bounds.intersects(clip)) continue;
+
+      if (scale < DETAIL_SCALE) {
+        g.fillRect(bounds.x, bounds.y, Math.max(2, bounds.width), Math.max(2, bounds.height));
+      } else {
+        int margin = Math.max(1, bounds.width / 5);
+        g.fillOval(bounds.x + margin, bounds.y + margin, bounds.width - 2 * margin, bounds.height - 2 * margin);
+      }
+    }
+  }
+
+  // Mayor nivel cuyo pixel de mosaico no supere un pixel en pantalla
+  private int levelFor(double scale) {
+    int level = 0;
+    while (level < TileCache.MAX_LEVEL && scale * (1 << (level + 1)) <= 1) {
+      level++;
+    }
+    return level;
+  }
+
+  private Rectangle cellBounds(int row, int col) {
+    int x = (int) (col * scale);
+    int y = (int) (row * scale);
+    return new Rectangle(x, y, Math.max(1, (int) ((col + 1) * scale) - x), Math.max(1, (int) ((row + 1) * scale) - y));
+  }
+}
@@ -0,0 +1,238 @@
+package com.isw.app.presentation.components;
+
+import java.util.Map;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import com.isw.app.enums.SectorType;
+
+// Mosaicos de vista alejada: en el nivel L cada pixel resume un bloque de
+// 2^L x 2^L sectores y cada mosaico mide TILE_PIXELS pixeles por lado.
+// Se generan al pedirlos; cuando cambia un sector solo se recalcula su pixel
+// en los mosaicos que ya estan en memoria. Los tipos son una copia propia que
+// se actualiza con los cuadros, nunca se lee el salon de la simulacion
+class TileCache {
+  static final int TILE_PIXELS = 64;
+  static final int MAX_LEVEL = 8;
+  // Por debajo de este nivel un bloque tiene a lo sumo 4x4 sectores y se recorre
+  // directamente; desde aqui se llevan conteos por bloque
+  private static final int COUNTED_LEVEL = 3;
+  private static final int MAX_TILES = 1024;
+  private static final int CLEAN_RGB = SectorType.CLEAN.getColor().getRGB() & 0xFFFFFF;
+  private static final int DIRTY_RGB = SectorType.DIRTY.getColor().getRGB() & 0xFFFFFF;
+  private static final int BLOCKED_RGB = SectorType.OBSTRUCTED.getColor().getRGB() & 0xFFFFFF;
+  private static final int RECHARGE_RGB = SectorType.RECHARGE.getColor().getRGB() & 0xFFFFFF;
+  private static final SectorType[] TYPES = SectorType.values();
+  private static final byte DIRTY = (byte) SectorType.DIRTY.ordinal();
+  private static final byte CLEAN = (byte) SectorType.CLEAN.ordinal();
+  private static final byte RECHARGE = (byte) SectorType.RECHARGE.ordinal();
+
+  private final int rows;
+  private final int cols;
+  private final byte[] types;
+  private final BlockCounts[] counts = new BlockCounts[MAX_LEVEL + 1];
+  private final Map<Long, BufferedImage> tiles = new LinkedHashMap<Long, BufferedImage>(64, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+      return size() > MAX_TILES;
+    }
+  };
+
+  // types queda a cargo del cache: indices row * cols + col
+  TileCache(int rows, int cols, byte[] types) {
+    this.rows = rows;
+    this.cols = cols;
+    this.types = types;
+  }
+
+  int getRows() {
+    return rows;
+  }
+
+  int getCols() {
+    return cols;
+  }
+
+  SectorType getTypeAt(int row, int col) {
+    return TYPES[types[row * cols + col]];
+  }
+
+  static int getTileCells(int level) {
+    return TILE_PIXELS << level;
+  }
+
+  BufferedImage get(int level, int tileRow, int tileCol) {
+    long key = keyOf(level, tileRow, tileCol);
+    BufferedImage tile = tiles.get(key);
+    if (tile == null) {
+      tile = build(level, tileRow, tileCol);
+      tiles.put(key, tile);
+    }
+    return tile;
+  }
+
+  // Los conteos se ajustan con el tipo anterior y el nuevo, sin recorrer el bloque
+  void update(int row, int col, SectorType type) {
+    int index = row * cols + col;
+    byte previous = types[index];
+    byte current = (byte) type.ordinal();
+    if (previous == current) return;
+    types[index] = current;
+
+    for (int level = 0; level <= MAX_LEVEL; level++) {
+      int blockRow = row >> level;
+      int blockCol = col >> level;
+      if (counts[level] != null) {
+        counts[level].replace(blockRow, blockCol, previous, current);
+      }
+
+      int tileCells = getTileCells(level);
+      BufferedImage tile = tiles.get(keyOf(level, row / tileCells, col / tileCells));
+      if (tile != null) {
+        tile.setRGB(blockCol % TILE_PIXELS, blockRow % TILE_PIXELS, blockColor(level, blockRow, blockCol));
+      }
+    }
+  }
+
+  // Reemplaza todos los tipos; los mosaicos y conteos se vuelven a generar al pedirlos
+  void reset(byte[] types) {
+    System.arraycopy(types, 0, this.types, 0, this.types.length);
+    tiles.clear();
+    Arrays.fill(counts, null);
+  }
+
+  private long keyOf(int level, int tileRow, int tileCol) {
+    return ((long) level << 56) | ((long) tileRow << 28) | tileCol;
+  }
+
+  private BufferedImage build(int level, int tileRow, int tileCol) {
+    int block = 1 << level;
+    int firstBlockRow = tileRow * TILE_PIXELS;
+    int firstBlockCol = tileCol * TILE_PIXELS;
+    int width = Math.min(TILE_PIXELS, (cols + block - 1) / block - firstBlockCol);
+    int height = Math.min(TILE_PIXELS, (rows + block - 1) / block - firstBlockRow);
+
+    BufferedImage tile = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    int[] pixels = ((DataBufferInt) tile.getRaster().getDataBuffer()).getData();
+
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        pixels[y * width + x] = blockColor(level, firstBlockRow + y, firstBlockCol + x);
+      }
+    }
+
+    return tile;
+  }
+
+  private int blockColor(int level, int blockRow, int blockCol) {
+    int rowStart = blockRow << level;
+    int colStart = blockCol << level;
+    int rowEnd = Math.min(rows, rowStart + (1 << level));
+    int colEnd = Math.min(cols, colStart + (1 << level));
+    int total = (rowEnd - rowStart) * (colEnd - colStart);
+
+    if (level >= COUNTED_LEVEL) {
+      BlockCounts levelCounts = countsFor(level);
+      int index = levelCounts.indexOf(blockRow, blockCol);
+      return blockColor(levelCounts.dirty[index], levelCounts.blocked[index], levelCounts.recharge[index], total);
+    }
+
+    int dirty = 0;
+    int blocked = 0;
+    int recharge = 0;
+    for (int row = rowStart; row < rowEnd; row++) {
+      for (int index = row * cols + colStart, end = row * cols + colEnd; index < end; index++) {
+        byte type = types[index];
+        if (type == DIRTY) dirty++;
+        else if (type == RECHARGE) recharge++;
+        else if (type != CLEAN) blocked++;
+      }
+    }
+    return blockColor(dirty, blocked, recharge, total);
+  }
+
+  // Densidad de suciedad sobre lo transitable, oscurecida por los obstaculos;
+  // una estacion de recarga se marca siempre para no perderla al alejar
+  private int blockColor(int dirty, int blocked, int recharge, int total) {
+    if (recharge > 0) return RECHARGE_RGB;
+
+    int walkable = total - blocked;
+    double density = walkable > 0 ? (double) dirty / walkable : 0;
+    int color = blend(CLEAN_RGB, DIRTY_RGB, density);
+    return blend(color, BLOCKED_RGB, (double) blocked / Math.max(1, total));
+  }
+
+  // El primer nivel con conteos recorre los sectores una vez; los siguientes
+  // suman los cuatro bloques hijos del nivel anterior
+  private BlockCounts countsFor(int level) {
+    if (counts[level] != null) return counts[level];
+
+    BlockCounts levelCounts = new BlockCounts(level);
+    if (level == COUNTED_LEVEL) {
+      for (int row = 0, index = 0; row < rows; row++) {
+        for (int col = 0; col < cols; col++, index++) {
+          levelCounts.add(levelCounts.indexOf(row >> level, col >> level), types[index], 1);
+        }
+      }
+    } else {
+      BlockCounts children = countsFor(level - 1);
+      for (int row = 0; row < children.rows; row++) {
+        for (int col = 0; col < children.cols; col++) {
+          int child = children.indexOf(row, col);
+          int parent = levelCounts.indexOf(row >> 1, col >> 1);
+          levelCounts.dirty[parent] += children.dirty[child];
+          levelCounts.blocked[parent] += children.blocked[child];
+          levelCounts.recharge[parent] += children.recharge[child];
+        }
+      }
+    }
+
+    counts[level] = levelCounts;
+    return levelCounts;
+  }
+
+  private int blend(int from, int to, double amount) {
+    int color = 0;
+    for (int shift = 16; shift >= 0; shift -= 8) {
+      int start = (from >> shift) & 0xFF;
+      int end = (to >> shift) & 0xFF;
+      color |= (int) Math.round(start + (end - start) * amount) << shift;
+    }
+    return color;
+  }
+
+  // Cantidad de sectores sucios, bloqueados y de recarga por bloque de un nivel
+  private class BlockCounts {
+    private final int rows;
+    private final int cols;
+    private final int[] dirty;
+    private final int[] blocked;
+    private final int[] recharge;
+
+    BlockCounts(int level) {
+      int block = 1 << level;
+      this.rows = (TileCache.this.rows + block - 1) / block;
+      this.cols = (TileCache.this.cols + block - 1) / block;
+      this.dirty = new int[rows * cols];
+      this.blocked = new int[rows * cols];
+      this.recharge = new int[rows * cols];
+    }
+
+    int indexOf(int blockRow, int blockCol) {
+      return blockRow * cols + blockCol;
+    }
+
+    void add(int index, byte type, int amount) {
+      if (type == DIRTY) dirty[index] += amount;
+      else if (type == RECHARGE) recharge[index] += amount;
+      else if (type != CLEAN) blocked[index] += amount;
+    }
+
+    void replace(int blockRow, int blockCol, byte previous, byte current) {
+      int index = indexOf(blockRow, blockCol);
+      add(index, previous, -1);
+      add(index, current, 1);
+    }
+  }
+}
@@ -10,9 +10,10 @@ import java.awt.BorderLayout;
 import com.isw.app.models.Room;
 import com.isw.app.models.Robot;
 import com.isw.app.models.Cleaning;
-import com.isw.app.models.StepResult;
+import com.isw.app.models.SimulationFrame;
+import com.isw.app.services.SimulationLoop;
 import com.isw.app.services.CleaningService;
-import com.isw.app.presentation.components.BoardRoom;
+import com.isw.app.presentation.components.BoardMap;
 import com.isw.app.presentation.components.ControlPanel;
 import com.isw.app.presentation.components.ReportPanel;
 
@@ -20,14 +21,15 @@ public class SimulatorView extends BaseView {
   private final CleaningService cleaningService = new CleaningService();
 
   private Cleaning cleaning;
-  private Timer simulationTimer;
+  private SimulationLoop simulationLoop;
+  private Timer frameTimer;
 
   private JFrame frame;
   private JPanel leftPanel;
   private JPanel rightPanel;
   private JPanel centerPanel;
 
-  private BoardRoom boardRoom;
+  private BoardMap boardMap;
   private ControlPanel controlPanel;
   private ReportPanel reportPanel;
 
@@ -40,7 +42,7 @@ public class SimulatorView extends BaseView {
     buildLeftPanel();
     buildCenterPanel();
     buildRightPanel();
-    buildBoardRoom();
+    buildBoardMap();
     buildControlPanel();
     buildReportPanel();
     frame.setVisible(true);
@@ -75,9 +77,9 @@ public class SimulatorView extends BaseView {
     frame.add(rightPanel, BorderLayout.EAST);
   }
 
-  private void buildBoardRoom() {
-    boardRoom = new BoardRoom();
-    centerPanel.add(boardRoom, BorderLayout.CENTER);
+  private void buildBoardMap() {
+    boardMap = new BoardMap();
+    centerPanel.add(boardMap, BorderLayout.CENTER);
   }
 
   private void buildControlPanel() {
@@ -85,6 +87,7 @@ public class SimulatorView extends BaseView {
     controlPanel.setOnGenerate(this::onGenerateBoard);
     controlPanel.setOnPlaced(this::onPlaceRobots);
     controlPanel.setOnSimulate(this::onStartSimulation);
+    controlPanel.setOnSpeedChange(this::applySpeed);
     leftPanel.add(controlPanel, BorderLayout.CENTER);
   }
 
@@ -95,10 +98,11 @@ public class SimulatorView extends BaseView {
 
   // TO-DO: Add New Simulation Service
   private void onGenerateBoard() {
+    discardSimulation();
     Room room = cleaningService.generateRoom();
     if (room != null) {
-      cleaning = new Cleaning(room, null);
-      boardRoom.onUpdateRoom(room);
+      cleaning = cleaningService.createCleaning(room, null);
+      boardMap.onUpdateRoom(room);
       updateReportPanel();
     }
   }
@@ -108,9 +112,10 @@ public class SimulatorView extends BaseView {
       return;
     }
 
+    discardSimulation();
     List<Robot> robots = cleaningService.generateRobots(cleaning.getRoom());
-    cleaning = new Cleaning(cleaning.getRoom(), robots);
-    boardRoom.onUpdateRobots(robots);
+    cleaning = cleaningService.createCleaning(cleaning.getRoom(), robots);
+    boardMap.onUpdateRobots(robots);
     updateReportPanel();
   }
 
@@ -119,44 +124,85 @@ public class SimulatorView extends BaseView {
       return;
     }
 
-    if (cleaning.isActive()) {
+    if (simulationLoop != null && simulationLoop.isRunning()) {
       stopSimulation();
     } else {
       startSimulation();
     }
   }
 
+  // Los pasos corren en su propio hilo; el EDT solo toma el ultimo cuadro
+  // publicado a la frecuencia de refresco de la pantalla
   private void startSimulation() {
+    if (frameTimer != null) {
+      frameTimer.stop();
+    }
     cleaningService.startCleaning(cleaning);
     updateReportPanel();
 
-    simulationTimer = new Timer(500, e -> {
-      StepResult result = cleaningService.executeStep(cleaning);
+    simulationLoop = new SimulationLoop(cleaningService, cleaning);
+    applySpeed();
+    frameTimer = new Timer(SimulationLoop.FRAME_INTERVAL, e -> onFrame());
+    simulationLoop.start();
+    frameTimer.start();
+  }
 
-      if (result != null) {
-        boardRoom.onUpdateRobots(result.getRobots());
-        updateReportPanel();
+  // La velocidad puede cambiarse mientras la simulacion corre
+  private void applySpeed() {
+    if (simulationLoop == null) return;
 
-        if (result.isComplete()) {
-          stopSimulation();
-          updateReportPanel();
-        }
-      }
-    });
+    int stepsPerSecond = controlPanel.getStepsPerSecond();
+    simulationLoop.setStepInterval(stepsPerSecond == 0 ? 0 : 1000 / stepsPerSecond);
+    simulationLoop.setStepsPerFrame(controlPanel.isTurboEnabled() ? controlPanel.getTurboSteps() : 1);
+  }
+
+  private void onFrame() {
+    SimulationFrame simulationFrame = simulationLoop.pollFrame();
+    if (simulationFrame == null) return;
 
-    simulationTimer.start();
+    boardMap.onUpdateFrame(simulationFrame);
+    reportPanel.updateReport(simulationFrame.getInitialDirtySectors(), simulationFrame.getCleanedSectors(),
+        simulationFrame.getCompletionPercentage(), simulationFrame.getMissionStatus());
+
+    if (simulationFrame.isFinished()) {
+      frameTimer.stop();
+    }
   }
 
+  // El hilo termina el paso en curso y publica un cuadro final
   private void stopSimulation() {
-    if (simulationTimer != null) {
-      simulationTimer.stop();
+    if (simulationLoop != null) {
+      simulationLoop.stop();
     }
-    if (cleaning != null) {
-      cleaningService.stopCleaning(cleaning);
-      updateReportPanel();
+  }
+
+  // Al cambiar de salon o de robots se espera al hilo para que no siga moviendo
+  // robots sobre el mismo salon; los cuadros que publico hasta detenerse llevan
+  // sectores limpiados que el tablero aun no vio, asi que se aplican igual
+  private void discardSimulation() {
+    if (frameTimer != null) {
+      frameTimer.stop();
+    }
+    if (simulationLoop != null) {
+      simulationLoop.stop();
+      try {
+        simulationLoop.awaitTermination();
+        for (SimulationFrame frame = simulationLoop.pollFrame(); frame != null; frame = simulationLoop.pollFrame()) {
+          boardMap.onUpdateFrame(frame);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      simulationLoop = null;
     }
   }
 
+  public void close() {
+    discardSimulation();
+    cleaningService.close();
+  }
+
+  // Mientras el hilo corre, el reporte sale de los cuadros y no de la limpieza
   private void updateReportPanel() {
     if (cleaning == null) {
       reportPanel.resetReport();
@@ -0,0 +1,129 @@
+package com.isw.app.repositories;
+
+import java.util.List;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import com.isw.app.models.Room;
+import com.isw.app.models.Robot;
+import com.isw.app.models.HistoryEntry;
+
+// Formato: cabecera (MAGIC, version, tamano de registro, dimensiones, robots,
+// intervalo del indice, inicio de datos, UUIDs) seguida de registros de ancho fijo
+public class BinaryHistorySink implements HistorySink {
+  public static final int MAGIC = 0x49535748;
+  public static final short VERSION = 1;
+  public static final int HEADER_SIZE = 28;
+  public static final int COMPACT_RECORD_SIZE = 12;
+  public static final int WIDE_RECORD_SIZE = 18;
+  public static final int INDEX_ENTRY_SIZE = 12;
+  public static final int INDEX_INTERVAL = 64;
+  public static final int MOVED_FLAG = 0x80;
+  public static final int COMPACT_LIMIT = 0xFFFF;
+
+  private final FileChannel log;
+  private final FileChannel index;
+  private final int recordSize;
+  private long offset;
+  private int lastStep;
+
+  public BinaryHistorySink(Path logPath, Path indexPath, Room room, List<Robot> robots) throws IOException {
+    boolean compact = room.getRows() <= COMPACT_LIMIT && room.getCols() <= COMPACT_LIMIT &&
+        robots.size() <= COMPACT_LIMIT;
+    this.recordSize = compact ? COMPACT_RECORD_SIZE : WIDE_RECORD_SIZE;
+    this.log = open(logPath);
+    this.index = open(indexPath);
+
+    try {
+      writeFully(log, createHeader(room, robots));
+      this.offset = log.position();
+    } catch (IOException e) {
+      close();
+      throw e;
+    }
+  }
+
+  @Override
+  public void write(List<HistoryEntry> batch) throws IOException {
+    ByteBuffer records = ByteBuffer.allocate(batch.size() * recordSize);
+    ByteBuffer entries = ByteBuffer.allocate(batch.size() * INDEX_ENTRY_SIZE);
+
+    for (HistoryEntry entry : batch) {
+      // Cada INDEX_INTERVAL pasos se anota donde empieza el paso
+      if (entry.getStep() != lastStep) {
+        lastStep = entry.getStep();
+        if ((lastStep - 1) % INDEX_INTERVAL == 0) {
+          entries.putInt(lastStep).putLong(offset + records.position());
+        }
+      }
+
+      int state = entry.getState().ordinal() | (entry.hasMoved() ? MOVED_FLAG : 0);
+      records.putInt(entry.getStep());
+      if (recordSize == COMPACT_RECORD_SIZE) {
+        records.putShort((short) entry.getRobotIndex())
+            .putShort((short) entry.getRow())
+            .putShort((short) entry.getCol());
+      } else {
+        records.putInt(entry.getRobotIndex())
+            .putInt(entry.getRow())
+            .putInt(entry.getCol());
+      }
+      records.put((byte) state).put((byte) entry.getBattery());
+    }
+
+    records.flip();
+    entries.flip();
+    offset += records.remaining();
+    writeFully(log, records);
+    writeFully(index, entries);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      log.close();
+    } finally {
+      index.close();
+    }
+  }
+
+  private ByteBuffer createHeader(Room room, List<Robot> robots) {
+    byte[][] uuids = new byte[robots.size()][];
+    int size = HEADER_SIZE;
+    for (int i = 0; i < uuids.length; i++) {
+      uuids[i] = robots.get(i).getUuid().getBytes(StandardCharsets.UTF_8);
+      size += Short.BYTES + uuids[i].length;
+    }
+
+    ByteBuffer header = ByteBuffer.allocate(size)
+        .putInt(MAGIC)
+        .putShort(VERSION)
+        .putShort((short) recordSize)
+        .putInt(room.getRows())
+        .putInt(room.getCols())
+        .putInt(robots.size())
+        .putInt(INDEX_INTERVAL)
+        .putInt(size);
+
+    for (byte[] uuid : uuids) {
+      header.putShort((short) uuid.length).put(uuid);
+    }
+
+    header.flip();
+    return header;
+  }
+
+  private static FileChannel open(Path path) throws IOException {
+    return FileChannel.open(path,
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer bytes) throws IOException {
+    while (bytes.hasRemaining()) {
+      channel.write(bytes);
+    }
+  }
+}
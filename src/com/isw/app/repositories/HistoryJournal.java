@@ -0,0 +1,211 @@
+package com.isw.app.repositories;
+
+import java.util.List;
+import java.util.Arrays;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import com.isw.app.models.HistoryEntry;
+import com.isw.app.models.JournalConfig;
+import com.isw.app.enums.BackpressurePolicy;
+
+public class HistoryJournal {
+  private final HistorySink sink;
+  private final JournalConfig config;
+
+  // Buffer circular acotado compartido con el hilo escritor
+  private final HistoryEntry[] buffer;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final Condition written = lock.newCondition();
+  private int head;
+  private int size;
+  private long appendedCount;
+  private long writtenCount;
+  private long flushTarget;
+  private long droppedCount;
+  private boolean closed;
+
+  private Thread writer;
+
+  public HistoryJournal(HistorySink sink, JournalConfig config) {
+    this.sink = sink;
+    this.config = config;
+    this.buffer = new HistoryEntry[config.getCapacity()];
+  }
+
+  public boolean append(HistoryEntry entry) {
+    lock.lock();
+    try {
+      if (closed) return false;
+      ensureStarted();
+
+      while (size == buffer.length) {
+        if (config.getPolicy() == BackpressurePolicy.DROP_NEWEST) {
+          droppedCount++;
+          return false;
+        }
+        if (config.getPolicy() == BackpressurePolicy.DROP_OLDEST) {
+          buffer[head] = null;
+          head = (head + 1) % buffer.length;
+          size--;
+          droppedCount++;
+          appendedCount--;
+          break;
+        }
+        notFull.awaitUninterruptibly();
+        if (closed) return false;
+      }
+
+      buffer[(head + size) % buffer.length] = entry;
+      size++;
+      appendedCount++;
+
+      if (size == 1 || size == config.getBatchSize()) {
+        notEmpty.signal();
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Espera a que todo lo registrado hasta ahora llegue al archivo
+  public void flush() {
+    lock.lock();
+    try {
+      if (writer == null) return;
+
+      long target = appendedCount;
+      flushTarget = Math.max(flushTarget, target);
+      notEmpty.signal();
+
+      while (writtenCount < target && writer.isAlive()) {
+        written.awaitUninterruptibly();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void close() {
+    Thread current;
+    lock.lock();
+    try {
+      if (closed) return;
+      closed = true;
+      current = writer;
+      notEmpty.signal();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+
+    if (current != null) {
+      try {
+        current.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  public long getDroppedCount() {
+    lock.lock();
+    try {
+      return droppedCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void ensureStarted() {
+    if (writer != null) return;
+
+    writer = new Thread(this::runWriter, "history-journal");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  private void runWriter() {
+    try (HistorySink output = sink) {
+      List<HistoryEntry> batch;
+      while ((batch = takeBatch()) != null) {
+        write(output, batch);
+      }
+    } catch (IOException e) {
+      System.err.println("Error al cerrar historial: " + e.getMessage());
+    } finally {
+      lock.lock();
+      try {
+        // Sin escritor no hay a quien entregar: se rechazan los registros nuevos
+        closed = true;
+        written.signalAll();
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  // Se escribe al completar un lote, al vencer el intervalo o cuando se pide flush
+  private List<HistoryEntry> takeBatch() {
+    lock.lock();
+    try {
+      long deadline = 0;
+
+      while (!closed) {
+        if (size == 0) {
+          notEmpty.awaitUninterruptibly();
+          continue;
+        }
+        if (size >= config.getBatchSize() || flushTarget > writtenCount) break;
+
+        if (deadline == 0) {
+          deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getFlushIntervalMillis());
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) break;
+
+        try {
+          notEmpty.awaitNanos(remaining);
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+
+      if (size == 0) return null;
+
+      int count = Math.min(size, config.getBatchSize());
+      HistoryEntry[] batch = new HistoryEntry[count];
+      for (int i = 0; i < count; i++) {
+        batch[i] = buffer[head];
+        buffer[head] = null;
+        head = (head + 1) % buffer.length;
+      }
+      size -= count;
+      notFull.signalAll();
+      return Arrays.asList(batch);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void write(HistorySink output, List<HistoryEntry> batch) {
+    try {
+      output.write(batch);
+    } catch (IOException e) {
+      System.err.println("Error al registrar paso: " + e.getMessage());
+    }
+
+    lock.lock();
+    try {
+      writtenCount += batch.size();
+      written.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package com.isw.app.repositories;
+
+import java.util.Arrays;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import com.isw.app.enums.DataFile;
+import com.isw.app.enums.RobotState;
+import com.isw.app.models.HistoryEntry;
+
+public class HistoryReader implements AutoCloseable {
+  private static final int BUFFER_RECORDS = 4096;
+  private static final RobotState[] STATES = RobotState.values();
+
+  private final FileChannel log;
+  private final int recordSize;
+  private final int rows;
+  private final int cols;
+  private final String[] robotUuids;
+  private final long dataOffset;
+  private final int[] indexSteps;
+  private final long[] indexOffsets;
+
+  // Ventana de lectura sobre el archivo; position apunta al siguiente byte a cargar
+  private final ByteBuffer buffer;
+  private long position;
+
+  public HistoryReader() throws IOException {
+    this(Paths.get(DataFile.HISTORY_LOG.getPath()), Paths.get(DataFile.HISTORY_INDEX.getPath()));
+  }
+
+  public HistoryReader(Path logPath, Path indexPath) throws IOException {
+    this.log = FileChannel.open(logPath, StandardOpenOption.READ);
+
+    try {
+      ByteBuffer header = read(log, 0, BinaryHistorySink.HEADER_SIZE);
+      if (header.getInt() != BinaryHistorySink.MAGIC || header.getShort() != BinaryHistorySink.VERSION) {
+        throw new IOException("Historial binario no reconocido: " + logPath);
+      }
+
+      this.recordSize = header.getShort();
+      this.rows = header.getInt();
+      this.cols = header.getInt();
+      this.robotUuids = new String[header.getInt()];
+      header.getInt();
+      this.dataOffset = header.getInt();
+
+      ByteBuffer names = read(log, BinaryHistorySink.HEADER_SIZE, (int) dataOffset - BinaryHistorySink.HEADER_SIZE);
+      for (int i = 0; i < robotUuids.length; i++) {
+        byte[] uuid = new byte[names.getShort()];
+        names.get(uuid);
+        robotUuids[i] = new String(uuid, StandardCharsets.UTF_8);
+      }
+
+      try (FileChannel index = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+        int entries = (int) (index.size() / BinaryHistorySink.INDEX_ENTRY_SIZE);
+        ByteBuffer content = read(index, 0, entries * BinaryHistorySink.INDEX_ENTRY_SIZE);
+        this.indexSteps = new int[entries];
+        this.indexOffsets = new long[entries];
+        for (int i = 0; i < entries; i++) {
+          indexSteps[i] = content.getInt();
+          indexOffsets[i] = content.getLong();
+        }
+      }
+    } catch (IOException e) {
+      log.close();
+      throw e;
+    }
+
+    this.buffer = ByteBuffer.allocate(BUFFER_RECORDS * recordSize);
+    reposition(dataOffset);
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getCols() {
+    return cols;
+  }
+
+  public int getRobotCount() {
+    return robotUuids.length;
+  }
+
+  public String getRobotUuid(int robotIndex) {
+    return robotUuids[robotIndex];
+  }
+
+  // Salta al primer registro del paso indicado (o al siguiente si no existe)
+  public void seek(int step) throws IOException {
+    int slot = Arrays.binarySearch(indexSteps, step);
+    if (slot < 0) slot = -slot - 2;
+    reposition(slot >= 0 ? indexOffsets[slot] : dataOffset);
+
+    while (fill()) {
+      int recordStep = buffer.getInt(buffer.position());
+      if (recordStep >= step) return;
+      buffer.position(buffer.position() + recordSize);
+    }
+  }
+
+  public boolean hasNext() throws IOException {
+    return fill();
+  }
+
+  public HistoryEntry next() throws IOException {
+    if (!fill()) return null;
+
+    int step = buffer.getInt();
+    int robotIndex;
+    int row;
+    int col;
+    if (recordSize == BinaryHistorySink.COMPACT_RECORD_SIZE) {
+      robotIndex = Short.toUnsignedInt(buffer.getShort());
+      row = Short.toUnsignedInt(buffer.getShort());
+      col = Short.toUnsignedInt(buffer.getShort());
+    } else {
+      robotIndex = buffer.getInt();
+      row = buffer.getInt();
+      col = buffer.getInt();
+    }
+    int state = buffer.get() & 0xFF;
+    int battery = buffer.get();
+
+    return new HistoryEntry(step, robotIndex, robotUuids[robotIndex],
+        (state & BinaryHistorySink.MOVED_FLAG) != 0, row, col,
+        STATES[state & ~BinaryHistorySink.MOVED_FLAG], battery);
+  }
+
+  @Override
+  public void close() throws IOException {
+    log.close();
+  }
+
+  private void reposition(long offset) {
+    position = offset;
+    buffer.clear().limit(0);
+  }
+
+  // Garantiza al menos un registro completo en la ventana
+  private boolean fill() throws IOException {
+    if (buffer.remaining() >= recordSize) return true;
+
+    buffer.compact();
+    int read;
+    while (buffer.position() < recordSize && (read = log.read(buffer, position)) > 0) {
+      position += read;
+    }
+    buffer.flip();
+    return buffer.remaining() >= recordSize;
+  }
+
+  private static ByteBuffer read(FileChannel channel, long offset, int length) throws IOException {
+    ByteBuffer bytes = ByteBuffer.allocate(length);
+    while (bytes.hasRemaining()) {
+      if (channel.read(bytes, offset + bytes.position()) < 0) {
+        throw new IOException("Historial binario truncado");
+      }
+    }
+    bytes.flip();
+    return bytes;
+  }
+}
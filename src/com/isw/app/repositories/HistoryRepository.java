@@ -1,35 +1,74 @@
 package com.isw.app.repositories;
 
+import java.util.List;
 import java.io.IOException;
-import java.io.BufferedWriter;
+import java.nio.file.Paths;
+import com.isw.app.models.Room;
 import com.isw.app.models.Robot;
 import com.isw.app.enums.DataFile;
 import com.isw.app.models.Decision;
-import com.isw.app.helpers.BufferedHelper;
-import com.isw.app.helpers.TxtQueryHelper;
+import com.isw.app.models.HistoryEntry;
+import com.isw.app.models.JournalConfig;
 
-public class HistoryRepository {
-  private final DataFile file = DataFile.HISTORY;
+// Quien crea el repositorio debe cerrarlo para vaciar el historial pendiente
+public class HistoryRepository implements AutoCloseable {
+  private final JournalConfig config;
+  private HistoryJournal journal;
 
-  public void logStep(int stepNumber, Decision decision) {
-    try (BufferedWriter writer = BufferedHelper.getWriter(file)) {
-      Robot robot = decision.getRobot();
+  public HistoryRepository() {
+    this(JournalConfig.defaults());
+  }
 
-      TxtQueryHelper.writeDelimiter(writer);
-      TxtQueryHelper.writeField(writer, "Paso #" + stepNumber);
-      TxtQueryHelper.writeField(writer, robot.getUuid());
+  public HistoryRepository(JournalConfig config) {
+    this.config = config;
+  }
 
-      if (decision.hasValidMovement()) {
-        TxtQueryHelper.writeField(writer, robot.getCoord().getRow() + "," + robot.getCoord().getCol());
-      } else {
-        TxtQueryHelper.writeField(writer, "Sin movimiento");
-      }
+  // Los registros binario y mapeado guardan una mision; el de texto se sigue anexando
+  public synchronized void beginRun(Room room, List<Robot> robots) {
+    close();
 
-      TxtQueryHelper.writeField(writer, robot.getState().getLabel());
-      TxtQueryHelper.writeField(writer, "Bateria: " + robot.getBattery() * 5 + "%");
-      TxtQueryHelper.writeDelimiter(writer);
+    try {
+      journal = new HistoryJournal(createSink(room, robots), config);
     } catch (IOException e) {
-      System.err.println("Error al registrar paso: " + e.getMessage());
+      System.err.println("Error al abrir historial: " + e.getMessage());
+    }
+  }
+
+  private HistorySink createSink(Room room, List<Robot> robots) throws IOException {
+    switch (config.getFormat()) {
+      case TEXT:
+        return new TextHistorySink(Paths.get(DataFile.HISTORY.getPath()));
+      case MAPPED:
+        return new MappedHistorySink(Paths.get(DataFile.HISTORY_META.getPath()),
+            part -> Paths.get(DataFile.HISTORY_SEGMENT.getPath(part)), room, robots);
+      default:
+        return new BinaryHistorySink(Paths.get(DataFile.HISTORY_LOG.getPath()),
+            Paths.get(DataFile.HISTORY_INDEX.getPath()), room, robots);
+    }
+  }
+
+  public void logStep(int stepNumber, int robotIndex, Decision decision) {
+    HistoryJournal current = journal;
+    if (current != null) {
+      current.append(new HistoryEntry(stepNumber, robotIndex, decision));
     }
   }
+
+  public void flush() {
+    HistoryJournal current = journal;
+    if (current != null) current.flush();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (journal != null) {
+      journal.close();
+      journal = null;
+    }
+  }
+
+  public long getDroppedCount() {
+    HistoryJournal current = journal;
+    return current != null ? current.getDroppedCount() : 0;
+  }
 }
@@ -0,0 +1,11 @@
+package com.isw.app.repositories;
+
+import java.util.List;
+import java.io.Closeable;
+import java.io.IOException;
+import com.isw.app.models.HistoryEntry;
+
+public interface HistorySink extends Closeable {
+
+  void write(List<HistoryEntry> batch) throws IOException;
+}
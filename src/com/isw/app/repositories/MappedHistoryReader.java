@@ -0,0 +1,135 @@
+package com.isw.app.repositories;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.MappedByteBuffer;
+import java.util.function.IntFunction;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import com.isw.app.enums.DataFile;
+import com.isw.app.enums.RobotState;
+import com.isw.app.models.HistoryEntry;
+
+public class MappedHistoryReader {
+  private static final RobotState[] STATES = RobotState.values();
+  private static final int FLAGS = BinaryHistorySink.MOVED_FLAG | MappedHistorySink.PRESENT_FLAG;
+
+  private final IntFunction<Path> segmentPaths;
+  private final MappedByteBuffer meta;
+  private final int recordSize;
+  private final int frameSize;
+  private final int framesPerSegment;
+  private final int rows;
+  private final int cols;
+  private final String[] robotUuids;
+  private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+  public MappedHistoryReader() throws IOException {
+    this(Paths.get(DataFile.HISTORY_META.getPath()), part -> Paths.get(DataFile.HISTORY_SEGMENT.getPath(part)));
+  }
+
+  public MappedHistoryReader(Path metaPath, IntFunction<Path> segmentPaths) throws IOException {
+    this.segmentPaths = segmentPaths;
+
+    try (FileChannel channel = FileChannel.open(metaPath, StandardOpenOption.READ)) {
+      this.meta = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    if (meta.getInt() != MappedHistorySink.MAGIC || meta.getShort() != MappedHistorySink.VERSION) {
+      throw new IOException("Historial mapeado no reconocido: " + metaPath);
+    }
+
+    this.recordSize = meta.getShort();
+    this.rows = meta.getInt();
+    this.cols = meta.getInt();
+    this.robotUuids = new String[meta.getInt()];
+    this.framesPerSegment = meta.getInt();
+    this.frameSize = Math.max(1, robotUuids.length) * recordSize;
+    meta.getInt();
+
+    for (int i = 0; i < robotUuids.length; i++) {
+      byte[] uuid = new byte[meta.getShort()];
+      meta.get(uuid);
+      robotUuids[i] = new String(uuid, StandardCharsets.UTF_8);
+    }
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getCols() {
+    return cols;
+  }
+
+  public int getRobotCount() {
+    return robotUuids.length;
+  }
+
+  // Se relee en cada consulta para poder recorrer una mision mientras se graba
+  public int getStepCount() {
+    return meta.getInt(MappedHistorySink.STEP_COUNT_OFFSET);
+  }
+
+  public List<HistoryEntry> getFleetAt(int step) throws IOException {
+    List<HistoryEntry> fleet = new ArrayList<>(robotUuids.length);
+    if (step < 1 || step > getStepCount()) return fleet;
+
+    MappedByteBuffer segment = getSegment((step - 1) / framesPerSegment);
+    int frameStart = ((step - 1) % framesPerSegment) * frameSize;
+
+    for (int robotIndex = 0; robotIndex < robotUuids.length; robotIndex++) {
+      HistoryEntry entry = readRecord(segment, frameStart + robotIndex * recordSize, step, robotIndex);
+      if (entry != null) fleet.add(entry);
+    }
+
+    return fleet;
+  }
+
+  public HistoryEntry getEntry(int step, int robotIndex) throws IOException {
+    if (step < 1 || step > getStepCount() || robotIndex < 0 || robotIndex >= robotUuids.length) return null;
+
+    MappedByteBuffer segment = getSegment((step - 1) / framesPerSegment);
+    int position = ((step - 1) % framesPerSegment) * frameSize + robotIndex * recordSize;
+    return readRecord(segment, position, step, robotIndex);
+  }
+
+  private HistoryEntry readRecord(MappedByteBuffer segment, int position, int step, int robotIndex) {
+    int state = segment.get(position + recordSize - 2) & 0xFF;
+    if ((state & MappedHistorySink.PRESENT_FLAG) == 0) return null;
+
+    int row;
+    int col;
+    if (recordSize == MappedHistorySink.COMPACT_RECORD_SIZE) {
+      row = Short.toUnsignedInt(segment.getShort(position));
+      col = Short.toUnsignedInt(segment.getShort(position + 2));
+    } else {
+      row = segment.getInt(position);
+      col = segment.getInt(position + 4);
+    }
+
+    return new HistoryEntry(step, robotIndex, robotUuids[robotIndex],
+        (state & BinaryHistorySink.MOVED_FLAG) != 0, row, col,
+        STATES[state & ~FLAGS], segment.get(position + recordSize - 1));
+  }
+
+  private MappedByteBuffer getSegment(int number) throws IOException {
+    while (segments.size() <= number) {
+      segments.add(null);
+    }
+
+    MappedByteBuffer segment = segments.get(number);
+    if (segment == null) {
+      try (FileChannel channel = FileChannel.open(segmentPaths.apply(number), StandardOpenOption.READ)) {
+        segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+      segments.set(number, segment);
+    }
+
+    return segment;
+  }
+}
@@ -0,0 +1,148 @@
+package com.isw.app.repositories;
+
+import java.util.List;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.function.IntFunction;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import com.isw.app.models.Room;
+import com.isw.app.models.Robot;
+import com.isw.app.models.HistoryEntry;
+
+// Cada paso ocupa un marco de tamano fijo (un registro por robot), por lo que
+// la posicion de cualquier paso se calcula directamente. Los marcos se reparten
+// en segmentos mapeados en memoria que se agregan a medida que crece la mision
+public class MappedHistorySink implements HistorySink {
+  public static final int MAGIC = 0x4953574D;
+  public static final short VERSION = 1;
+  public static final int HEADER_SIZE = 28;
+  public static final int STEP_COUNT_OFFSET = 24;
+  public static final int COMPACT_RECORD_SIZE = 6;
+  public static final int WIDE_RECORD_SIZE = 10;
+  public static final int PRESENT_FLAG = 0x40;
+  public static final long SEGMENT_BYTES = 64L * 1024 * 1024;
+
+  private final IntFunction<Path> segmentPaths;
+  private final MappedByteBuffer meta;
+  private final int recordSize;
+  private final int frameSize;
+  private final int framesPerSegment;
+  private MappedByteBuffer segment;
+  private int segmentNumber = -1;
+  private int stepCount;
+  private int lastWrittenStep;
+
+  public MappedHistorySink(Path metaPath, IntFunction<Path> segmentPaths, Room room, List<Robot> robots)
+      throws IOException {
+    boolean compact = room.getRows() <= BinaryHistorySink.COMPACT_LIMIT &&
+        room.getCols() <= BinaryHistorySink.COMPACT_LIMIT;
+    this.segmentPaths = segmentPaths;
+    this.recordSize = compact ? COMPACT_RECORD_SIZE : WIDE_RECORD_SIZE;
+    this.frameSize = Math.max(1, robots.size()) * recordSize;
+    this.framesPerSegment = (int) Math.max(1, SEGMENT_BYTES / frameSize);
+
+    deleteSegments();
+    ByteBuffer header = createHeader(room, robots);
+    try (FileChannel channel = open(metaPath)) {
+      this.meta = channel.map(FileChannel.MapMode.READ_WRITE, 0, header.remaining());
+    }
+    meta.put(header);
+  }
+
+  @Override
+  public void write(List<HistoryEntry> batch) throws IOException {
+    for (HistoryEntry entry : batch) {
+      int frame = entry.getStep() - 1;
+      if (frame < 0) continue;
+
+      select(frame / framesPerSegment);
+      int position = (frame % framesPerSegment) * frameSize + entry.getRobotIndex() * recordSize;
+      int state = entry.getState().ordinal() | PRESENT_FLAG |
+          (entry.hasMoved() ? BinaryHistorySink.MOVED_FLAG : 0);
+
+      if (recordSize == COMPACT_RECORD_SIZE) {
+        segment.putShort(position, (short) entry.getRow());
+        segment.putShort(position + 2, (short) entry.getCol());
+      } else {
+        segment.putInt(position, entry.getRow());
+        segment.putInt(position + 4, entry.getCol());
+      }
+      segment.put(position + recordSize - 2, (byte) state);
+      segment.put(position + recordSize - 1, (byte) entry.getBattery());
+      lastWrittenStep = Math.max(lastWrittenStep, entry.getStep());
+    }
+
+    // El diario entrega los pasos en orden, pero un lote puede cortar un paso
+    // a la mitad: un paso queda cerrado cuando ya llego un registro del
+    // siguiente. Los registros descartados por el diario quedan ausentes en
+    // el marco (sin PRESENT_FLAG), asi nunca se detiene la publicacion
+    publish(lastWrittenStep - 1);
+  }
+
+  @Override
+  public void close() throws IOException {
+    publish(lastWrittenStep);
+    if (segment != null) segment.force();
+    meta.force();
+  }
+
+  private void publish(int steps) {
+    if (steps <= stepCount) return;
+    stepCount = steps;
+    meta.putInt(STEP_COUNT_OFFSET, stepCount);
+  }
+
+  private void select(int number) throws IOException {
+    if (number == segmentNumber) return;
+
+    if (segment != null) segment.force();
+    try (FileChannel channel = open(segmentPaths.apply(number))) {
+      segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) framesPerSegment * frameSize);
+    }
+    segmentNumber = number;
+  }
+
+  private ByteBuffer createHeader(Room room, List<Robot> robots) {
+    byte[][] uuids = new byte[robots.size()][];
+    int size = HEADER_SIZE;
+    for (int i = 0; i < uuids.length; i++) {
+      uuids[i] = robots.get(i).getUuid().getBytes(StandardCharsets.UTF_8);
+      size += Short.BYTES + uuids[i].length;
+    }
+
+    ByteBuffer header = ByteBuffer.allocate(size)
+        .putInt(MAGIC)
+        .putShort(VERSION)
+        .putShort((short) recordSize)
+        .putInt(room.getRows())
+        .putInt(room.getCols())
+        .putInt(robots.size())
+        .putInt(framesPerSegment)
+        .putInt(0);
+
+    for (byte[] uuid : uuids) {
+      header.putShort((short) uuid.length).put(uuid);
+    }
+
+    header.flip();
+    return header;
+  }
+
+  // Los segmentos de una mision anterior no deben mezclarse con la nueva
+  private void deleteSegments() throws IOException {
+    int number = 0;
+    while (Files.deleteIfExists(segmentPaths.apply(number))) {
+      number++;
+    }
+  }
+
+  private static FileChannel open(Path path) throws IOException {
+    return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+  }
+}
@@ -1,5 +1,6 @@
 package com.isw.app.repositories;
 
+import java.util.List;
 import com.isw.app.models.Coord;
 import com.isw.app.models.Robot;
 import com.isw.app.enums.DataFile;
@@ -13,13 +14,26 @@ public class RobotRepository {
 
   public void save(Robot robot) throws IOException {
     try (BufferedWriter writer = BufferedHelper.getWriter(file)) {
-      TxtQueryHelper.writeDelimiter(writer);
-      TxtQueryHelper.writeField(writer, "UUID: " + robot.getUuid());
-      Coord coord = robot.getCoord();
-      TxtQueryHelper.writeField(writer, "Posicion: " + coord.getRow() + "," + coord.getCol());
-      TxtQueryHelper.writeField(writer, "Bateria: " + robot.getBattery() * 5 + "%");
-      TxtQueryHelper.writeField(writer, "Estado: " + robot.getState().getLabel());
-      TxtQueryHelper.writeDelimiter(writer);
+      writeRobot(writer, robot);
     }
   }
+
+  // Una sola apertura del archivo para toda la flota
+  public void saveAll(List<Robot> robots) throws IOException {
+    try (BufferedWriter writer = BufferedHelper.getWriter(file)) {
+      for (Robot robot : robots) {
+        writeRobot(writer, robot);
+      }
+    }
+  }
+
+  private void writeRobot(BufferedWriter writer, Robot robot) throws IOException {
+    TxtQueryHelper.writeDelimiter(writer);
+    TxtQueryHelper.writeField(writer, "UUID: " + robot.getUuid());
+    Coord coord = robot.getCoord();
+    TxtQueryHelper.writeField(writer, "Posicion: " + coord.getRow() + "," + coord.getCol());
+    TxtQueryHelper.writeField(writer, "Bateria: " + robot.getBattery() * 5 + "%");
+    TxtQueryHelper.writeField(writer, "Estado: " + robot.getState().getLabel());
+    TxtQueryHelper.writeDelimiter(writer);
+  }
 }
@@ -1,14 +1,39 @@
 package com.isw.app.repositories;
 
+import java.util.Arrays;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.io.BufferedWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import com.isw.app.models.Room;
 import com.isw.app.models.Sector;
 import com.isw.app.enums.DataFile;
+import com.isw.app.enums.SectorType;
 import com.isw.app.helpers.BufferedHelper;
 import com.isw.app.helpers.TxtQueryHelper;
 
 public class RoomRepository {
+  private static final int SNAPSHOT_MAGIC = 0x49535752;
+  private static final short SNAPSHOT_VERSION = 1;
+  private static final int STEP_TIMERS_FLAG = 0x01;
+  private static final int CELLS_PER_WORD = 32;
+  private static final int TIMERS_PER_WORD = 16;
+
+  // Codigos de 2 bits de la rejilla; las recargas van en su propia lista
+  private static final SectorType[] GRID_TYPES = {
+      SectorType.DIRTY, SectorType.CLEAN, SectorType.TEMPORARY, SectorType.OBSTRUCTED };
+  private static final int[] GRID_CODES = new int[SectorType.values().length];
+
+  static {
+    for (int code = 0; code < GRID_TYPES.length; code++) {
+      GRID_CODES[GRID_TYPES[code].ordinal()] = code;
+    }
+    GRID_CODES[SectorType.RECHARGE.ordinal()] = GRID_CODES[SectorType.CLEAN.ordinal()];
+  }
+
   private final DataFile file = DataFile.ROOMS;
 
   public void save(Room room) throws IOException {
@@ -22,6 +47,143 @@ public class RoomRepository {
     }
   }
 
+  // Formato: cabecera, lista de recargas, rejilla de 2 bits por sector y
+  // temporizadores de 4 bits para cada sector temporal en orden de fila
+  public void saveSnapshot(Room room, Path path) throws IOException {
+    int rows = room.getRows();
+    int cols = room.getCols();
+    int cells = rows * cols;
+    byte[] uuid = room.getUuid().getBytes(StandardCharsets.UTF_8);
+    long[] grid = new long[(cells + CELLS_PER_WORD - 1) / CELLS_PER_WORD];
+    int[] recharges = new int[Room.MAX_RECHARGE];
+    int rechargeCount = 0;
+    int temporaryCount = 0;
+
+    for (int row = 0, index = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++, index++) {
+        SectorType type = room.getTypeAt(row, col);
+        grid[index / CELLS_PER_WORD] |= (long) GRID_CODES[type.ordinal()] << ((index % CELLS_PER_WORD) * 2);
+
+        if (type == SectorType.RECHARGE) {
+          if (rechargeCount == recharges.length) {
+            recharges = Arrays.copyOf(recharges, rechargeCount * 2);
+          }
+          recharges[rechargeCount++] = index;
+        } else if (type == SectorType.TEMPORARY) {
+          temporaryCount++;
+        }
+      }
+    }
+
+    long[] timers = new long[(temporaryCount + TIMERS_PER_WORD - 1) / TIMERS_PER_WORD];
+    for (int row = 0, slot = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        if (room.getTypeAt(row, col) == SectorType.TEMPORARY) {
+          long timer = room.getTemporaryTimerAt(row, col) & 0xF;
+          timers[slot / TIMERS_PER_WORD] |= timer << ((slot % TIMERS_PER_WORD) * 4);
+          slot++;
+        }
+      }
+    }
+
+    int size = Integer.BYTES * 6 + Short.BYTES * 2 + uuid.length + Integer.BYTES * rechargeCount +
+        Long.BYTES * (grid.length + timers.length);
+    ByteBuffer buffer = ByteBuffer.allocate(size)
+        .putInt(SNAPSHOT_MAGIC)
+        .putShort(SNAPSHOT_VERSION)
+        .putShort((short) (room.usesStepTimers() ? STEP_TIMERS_FLAG : 0))
+        .putInt(rows)
+        .putInt(cols)
+        .putInt(uuid.length)
+        .put(uuid)
+        .putInt(rechargeCount);
+
+    for (int i = 0; i < rechargeCount; i++) {
+      buffer.putInt(recharges[i]);
+    }
+    buffer.putInt(temporaryCount);
+    buffer.asLongBuffer().put(grid).put(timers);
+    buffer.position(buffer.limit());
+    buffer.flip();
+
+    try (FileChannel channel = FileChannel.open(path,
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  public Room loadSnapshot(Path path) throws IOException {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      buffer = ByteBuffer.allocate((int) channel.size());
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) break;
+      }
+      buffer.flip();
+    }
+
+    if (buffer.remaining() < Integer.BYTES + Short.BYTES || buffer.getInt() != SNAPSHOT_MAGIC ||
+        buffer.getShort() != SNAPSHOT_VERSION) {
+      throw new IOException("Instantanea de salon no reconocida: " + path);
+    }
+
+    try {
+      int flags = buffer.getShort();
+      int rows = buffer.getInt();
+      int cols = buffer.getInt();
+      byte[] uuid = new byte[buffer.getInt()];
+      buffer.get(uuid);
+
+      int cells = rows * cols;
+      byte[] types = new byte[cells];
+      byte[] temporaryTimers = new byte[cells];
+
+      int[] recharges = new int[buffer.getInt()];
+      for (int i = 0; i < recharges.length; i++) {
+        recharges[i] = buffer.getInt();
+      }
+      int temporaryCount = buffer.getInt();
+
+      long[] grid = new long[(cells + CELLS_PER_WORD - 1) / CELLS_PER_WORD];
+      long[] timers = new long[(temporaryCount + TIMERS_PER_WORD - 1) / TIMERS_PER_WORD];
+      buffer.asLongBuffer().get(grid).get(timers);
+
+      byte[] ordinals = new byte[GRID_TYPES.length];
+      for (int code = 0; code < GRID_TYPES.length; code++) {
+        ordinals[code] = (byte) GRID_TYPES[code].ordinal();
+      }
+
+      int temporaryCode = GRID_CODES[SectorType.TEMPORARY.ordinal()];
+      int slot = 0;
+      for (int word = 0, index = 0; word < grid.length; word++) {
+        long bits = grid[word];
+        int end = Math.min(cells, index + CELLS_PER_WORD);
+
+        for (; index < end; index++, bits >>>= 2) {
+          int code = (int) bits & 0x3;
+          types[index] = ordinals[code];
+
+          if (code == temporaryCode) {
+            temporaryTimers[index] = (byte) ((timers[slot / TIMERS_PER_WORD] >>> ((slot % TIMERS_PER_WORD) * 4)) & 0xF);
+            slot++;
+          }
+        }
+      }
+
+      for (int index : recharges) {
+        types[index] = (byte) SectorType.RECHARGE.ordinal();
+      }
+
+      Room room = new Room(new String(uuid, StandardCharsets.UTF_8), rows, cols, types, temporaryTimers);
+      room.setStepTimers((flags & STEP_TIMERS_FLAG) != 0);
+      return room;
+    } catch (RuntimeException e) {
+      throw new IOException("Instantanea de salon danada: " + path, e);
+    }
+  }
+
   private void writeSectorsData(BufferedWriter writer, Room room) throws IOException {
     Sector[][] sectors = room.getSectors();
 
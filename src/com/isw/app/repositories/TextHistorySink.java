@@ -0,0 +1,45 @@
+package com.isw.app.repositories;
+
+import java.util.List;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import com.isw.app.models.HistoryEntry;
+import com.isw.app.helpers.TxtQueryHelper;
+
+public class TextHistorySink implements HistorySink {
+  private final FileChannel channel;
+
+  public TextHistorySink(Path path) throws IOException {
+    this.channel = FileChannel.open(path,
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+
+  @Override
+  public void write(List<HistoryEntry> batch) throws IOException {
+    StringBuilder builder = new StringBuilder(batch.size() * 96);
+
+    for (HistoryEntry entry : batch) {
+      TxtQueryHelper.writeDelimiter(builder);
+      TxtQueryHelper.writeField(builder, "Paso #" + entry.getStep());
+      TxtQueryHelper.writeField(builder, entry.getRobotUuid());
+      TxtQueryHelper.writeField(builder, entry.hasMoved() ? entry.getRow() + "," + entry.getCol() : "Sin movimiento");
+      TxtQueryHelper.writeField(builder, entry.getState().getLabel());
+      TxtQueryHelper.writeField(builder, "Bateria: " + entry.getBattery() * 5 + "%");
+      TxtQueryHelper.writeDelimiter(builder);
+    }
+
+    ByteBuffer bytes = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8));
+    while (bytes.hasRemaining()) {
+      channel.write(bytes);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
@@ -0,0 +1,238 @@
+package com.isw.app.services;
+
+import java.util.List;
+import java.util.Arrays;
+import java.util.ArrayList;
+import com.isw.app.models.Room;
+import com.isw.app.models.Coord;
+
+public class AStarSearch {
+  private static final int CLOSED = -1;
+  protected static final int NONE = -1;
+  protected static final int[] ROW_STEPS = { -1, 1, 0, 0 };
+  protected static final int[] COL_STEPS = { 0, 0, -1, 1 };
+
+  private final NavigationService navigationService;
+
+  // Memoria de trabajo reutilizada entre consultas; solo crece con el salon
+  private int[] gScores = new int[0];
+  private int[] fScores = new int[0];
+  private int[] parents = new int[0];
+  private int[] stamps = new int[0];
+  private int[] heapPositions = new int[0];
+  private int[] heap = new int[0];
+  private int[] pathBuffer = new int[0];
+  private int heapSize;
+  private int generation;
+  private int expandedNodes;
+
+  // Contexto de la consulta en curso
+  protected Room room;
+  protected int rows;
+  protected int cols;
+  protected int goalIndex;
+  private int goalRow;
+  private int goalCol;
+  private boolean allowRechargeTraversal;
+  private boolean avoidRobots;
+
+  public AStarSearch(NavigationService navigationService) {
+    this.navigationService = navigationService;
+  }
+
+  public int getExpandedNodes() {
+    return expandedNodes;
+  }
+
+  public List<Coord> findPath(Coord start, Coord goal, Room room, boolean allowRechargeTraversal,
+      boolean avoidRobots) {
+    if (start.equals(goal))
+      return new ArrayList<>();
+
+    this.room = room;
+    this.rows = room.getRows();
+    this.cols = room.getCols();
+    this.goalRow = goal.getRow();
+    this.goalCol = goal.getCol();
+    this.goalIndex = goalRow * cols + goalCol;
+    this.allowRechargeTraversal = allowRechargeTraversal;
+    this.avoidRobots = avoidRobots;
+    prepare(rows * cols);
+
+    int startIndex = start.getRow() * cols + start.getCol();
+    open(startIndex, 0, heuristic(startIndex), NONE);
+
+    try {
+      while (heapSize > 0) {
+        int current = poll();
+        if (current == goalIndex) {
+          return reconstructPath(startIndex, goalIndex);
+        }
+
+        expandedNodes++;
+        expand(current, parents[current]);
+      }
+
+      return null;
+    } finally {
+      this.room = null;
+    }
+  }
+
+  protected void expand(int current, int parent) {
+    int row = current / cols;
+    int col = current % cols;
+
+    for (int dir = 0; dir < ROW_STEPS.length; dir++) {
+      int nextRow = row + ROW_STEPS[dir];
+      int nextCol = col + COL_STEPS[dir];
+      if (isWalkable(nextRow, nextCol)) {
+        relax(nextRow * cols + nextCol, current);
+      }
+    }
+  }
+
+  protected boolean isWalkable(int row, int col) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols) return false;
+
+    boolean isGoal = row == goalRow && col == goalCol;
+    return navigationService.canNavigate(room.getTypeAt(row, col), isGoal, allowRechargeTraversal) &&
+        (!avoidRobots || room.isEmptyAt(row, col));
+  }
+
+  protected void relax(int node, int parent) {
+    int gScore = gScores[parent] + distance(parent, node);
+    if (stamps[node] == generation && (heapPositions[node] == CLOSED || gScores[node] <= gScore)) return;
+
+    open(node, gScore, gScore + heuristic(node), parent);
+  }
+
+  // Misma metrica que Coord.distanceTo, sin crear coordenadas intermedias
+  protected int distance(int from, int to) {
+    return Math.abs(from / cols - to / cols) + Math.abs(from % cols - to % cols);
+  }
+
+  private int heuristic(int node) {
+    return Math.abs(node / cols - goalRow) + Math.abs(node % cols - goalCol);
+  }
+
+  private void prepare(int cells) {
+    if (stamps.length < cells) {
+      gScores = new int[cells];
+      fScores = new int[cells];
+      parents = new int[cells];
+      stamps = new int[cells];
+      heapPositions = new int[cells];
+      heap = new int[cells];
+      pathBuffer = new int[cells];
+      generation = 0;
+    }
+
+    // Las marcas por generacion evitan limpiar los arreglos en cada consulta
+    if (++generation == Integer.MAX_VALUE) {
+      Arrays.fill(stamps, 0);
+      generation = 1;
+    }
+
+    heapSize = 0;
+    expandedNodes = 0;
+  }
+
+  private void open(int node, int gScore, int fScore, int parent) {
+    boolean isNew = stamps[node] != generation;
+    stamps[node] = generation;
+    gScores[node] = gScore;
+    fScores[node] = fScore;
+    parents[node] = parent;
+
+    if (isNew) {
+      heap[heapSize] = node;
+      heapPositions[node] = heapSize;
+      siftUp(heapSize++);
+    } else {
+      siftUp(heapPositions[node]);
+    }
+  }
+
+  private int poll() {
+    int top = heap[0];
+    heapPositions[top] = CLOSED;
+
+    if (--heapSize > 0) {
+      heap[0] = heap[heapSize];
+      heapPositions[heap[0]] = 0;
+      siftDown(0);
+    }
+
+    return top;
+  }
+
+  // Empates en f se resuelven a favor del mayor g para avanzar hacia el objetivo
+  private boolean precedes(int a, int b) {
+    return fScores[a] < fScores[b] || (fScores[a] == fScores[b] && gScores[a] > gScores[b]);
+  }
+
+  private void siftUp(int position) {
+    int node = heap[position];
+
+    while (position > 0) {
+      int parentPosition = (position - 1) >>> 1;
+      int parentNode = heap[parentPosition];
+      if (!precedes(node, parentNode)) break;
+
+      heap[position] = parentNode;
+      heapPositions[parentNode] = position;
+      position = parentPosition;
+    }
+
+    heap[position] = node;
+    heapPositions[node] = position;
+  }
+
+  private void siftDown(int position) {
+    int node = heap[position];
+    int half = heapSize >>> 1;
+
+    while (position < half) {
+      int child = 2 * position + 1;
+      int right = child + 1;
+      if (right < heapSize && precedes(heap[right], heap[child])) {
+        child = right;
+      }
+      if (!precedes(heap[child], node)) break;
+
+      heap[position] = heap[child];
+      heapPositions[heap[child]] = position;
+      position = child;
+    }
+
+    heap[position] = node;
+    heapPositions[node] = position;
+  }
+
+  // Los padres pueden estar a varias celdas en linea recta (saltos de JPS);
+  // se rellenan las celdas intermedias para devolver un camino celda a celda
+  private List<Coord> reconstructPath(int startIndex, int goalIndex) {
+    int length = 0;
+    for (int node = goalIndex; node != startIndex; node = parents[node]) {
+      int step = stepToward(node, parents[node]);
+      for (int cell = node; cell != parents[node]; cell += step) {
+        pathBuffer[length++] = cell;
+      }
+    }
+
+    List<Coord> path = new ArrayList<>(length);
+    for (int i = length - 1; i >= 0; i--) {
+      path.add(new Coord(pathBuffer[i] / cols, pathBuffer[i] % cols));
+    }
+
+    return path;
+  }
+
+  private int stepToward(int from, int to) {
+    if (from / cols == to / cols) {
+      return from % cols < to % cols ? 1 : -1;
+    }
+    return from < to ? cols : -cols;
+  }
+}
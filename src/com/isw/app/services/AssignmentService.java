@@ -1,26 +1,22 @@
 package com.isw.app.services;
 
-import java.util.Set;
 import java.util.Map;
 import java.util.List;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.ArrayList;
 import java.util.Comparator;
 import com.isw.app.models.Room;
 import com.isw.app.models.Coord;
 import com.isw.app.models.Robot;
 import java.util.stream.Collectors;
 import com.isw.app.enums.SectorType;
-import com.isw.app.models.TargetPair;
 
 public class AssignmentService {
-  private final PathfindingService pathfindingService;
-  private final CoordinateService coordinateService;
+  private final DistanceFieldService distanceFieldService;
+  private final AuctionService auctionService;
 
-  public AssignmentService(PathfindingService pathfindingService) {
-    this.pathfindingService = pathfindingService;
-    this.coordinateService = new CoordinateService();
+  public AssignmentService() {
+    this.distanceFieldService = new DistanceFieldService();
+    this.auctionService = new AuctionService(distanceFieldService);
   }
 
   public Map<Robot, Coord> assignObjectives(List<Robot> robots, Room room) {
@@ -42,11 +38,8 @@ public class AssignmentService {
   }
 
   private void assignRechargeStations(List<Robot> robots, Room room, Map<Robot, Coord> assignments) {
-    List<Coord> rechargeStations = room.getRechargeCoords();
-    if (rechargeStations.isEmpty()) return;
-    
     for (Robot robot : robots) {
-      Coord nearestRecharge = coordinateService.findNearestCoord(robot.getCoord(), rechargeStations);
+      Coord nearestRecharge = room.findNearestRecharge(robot.getCoord());
       if (nearestRecharge != null) {
         assignments.put(robot, nearestRecharge);
       }
@@ -54,51 +47,18 @@ public class AssignmentService {
   }
 
   private void assignDirtySectors(List<Robot> robots, Room room, Map<Robot, Coord> assignments) {
-    List<Coord> availableDirty = new ArrayList<>(room.getCoordsByType(SectorType.DIRTY));
+    List<Coord> availableDirty = room.getCoordsByType(SectorType.DIRTY);
     if (availableDirty.isEmpty()) return;
-    
-    List<TargetPair> allPairs = createTargetPairs(robots, availableDirty, room);
-    allPairs.sort(Comparator.comparing(TargetPair::getDistance));
-    
-    assignOptimalPairs(allPairs, assignments);
-    assignRemainingRobots(robots, availableDirty, assignments);
-  }
-
-  private List<TargetPair> createTargetPairs(List<Robot> robots, List<Coord> targets, Room room) {
-    List<TargetPair> pairs = new ArrayList<>();
-    
-    for (Robot robot : robots) {
-      for (Coord target : targets) {
-        List<Coord> path = pathfindingService.findShortestPath(robot.getCoord(), target, room);
-        int distance = path != null ? path.size() : Integer.MAX_VALUE;
-        pairs.add(new TargetPair(robot, target, distance));
-      }
-    }
-    
-    return pairs;
-  }
 
-  private void assignOptimalPairs(List<TargetPair> pairs, Map<Robot, Coord> assignments) {
-    Set<Robot> assignedRobots = new HashSet<>();
-    Set<Coord> assignedTargets = new HashSet<>();
-    
-    for (TargetPair pair : pairs) {
-      if (pair.distance == Integer.MAX_VALUE) continue;
-      
-      if (!assignedRobots.contains(pair.robot) && !assignedTargets.contains(pair.target)) {
-        assignments.put(pair.robot, pair.target);
-        assignedRobots.add(pair.robot);
-        assignedTargets.add(pair.target);
-      }
-    }
+    assignments.putAll(auctionService.assign(robots, availableDirty, room));
+    assignRemainingRobots(robots, room, assignments);
   }
 
-  private void assignRemainingRobots(List<Robot> robots, List<Coord> availableDirty, 
-                                     Map<Robot, Coord> assignments) {
+  private void assignRemainingRobots(List<Robot> robots, Room room, Map<Robot, Coord> assignments) {
     robots.stream()
         .filter(robot -> !assignments.containsKey(robot))
         .forEach(robot -> {
-          Coord nearestDirty = coordinateService.findNearestCoord(robot.getCoord(), availableDirty);
+          Coord nearestDirty = room.findNearestDirty(robot.getCoord());
           if (nearestDirty != null) {
             assignments.put(robot, nearestDirty);
           }
@@ -0,0 +1,182 @@
+package com.isw.app.services;
+
+import java.util.Map;
+import java.util.List;
+import java.util.Deque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import com.isw.app.models.Room;
+import com.isw.app.models.Coord;
+import com.isw.app.models.Robot;
+import com.isw.app.models.TargetPair;
+import com.isw.app.models.DistanceField;
+
+public class AuctionService {
+  private static final int NEAREST_TARGETS = 8;
+  private static final int MAX_BIDS_PER_ROBOT = 64;
+  private static final int UNASSIGNED = -1;
+
+  private final DistanceFieldService distanceFieldService;
+
+  // Estado del paso anterior para arrancar la subasta en caliente
+  private Map<Robot, Coord> previousAssignments = new HashMap<>();
+  private Map<Coord, Double> previousPrices = new HashMap<>();
+
+  public AuctionService(DistanceFieldService distanceFieldService) {
+    this.distanceFieldService = distanceFieldService;
+  }
+
+  public Map<Robot, Coord> assign(List<Robot> robots, List<Coord> targets, Room room) {
+    Map<Coord, Integer> targetIndexes = new HashMap<>();
+    for (int j = 0; j < targets.size(); j++) {
+      targetIndexes.put(targets.get(j), j);
+    }
+
+    List<List<TargetPair>> candidates = new ArrayList<>(robots.size());
+    int maxCost = 0;
+    for (Robot robot : robots) {
+      List<TargetPair> robotCandidates = findCandidates(robot, targetIndexes, room);
+      for (TargetPair pair : robotCandidates) {
+        maxCost = Math.max(maxCost, pair.getDistance());
+      }
+      candidates.add(robotCandidates);
+    }
+
+    double[] prices = new double[targets.size()];
+    int[] owners = new int[targets.size()];
+    int[] assigned = new int[robots.size()];
+    Arrays.fill(owners, UNASSIGNED);
+    Arrays.fill(assigned, UNASSIGNED);
+
+    double epsilon = 1.0 / (robots.size() + 1);
+    double outsideValue = -(maxCost + 1.0);
+    warmStart(robots, candidates, targetIndexes, prices, owners, assigned, outsideValue, epsilon);
+
+    Deque<Integer> bidders = new ArrayDeque<>();
+    for (int i = 0; i < robots.size(); i++) {
+      if (assigned[i] == UNASSIGNED) bidders.add(i);
+    }
+
+    int remainingBids = MAX_BIDS_PER_ROBOT * Math.max(1, robots.size());
+    while (!bidders.isEmpty() && remainingBids-- > 0) {
+      int bidder = bidders.poll();
+      int target = bid(candidates.get(bidder), targetIndexes, prices, outsideValue, epsilon);
+      if (target == UNASSIGNED) continue;
+
+      int previousOwner = owners[target];
+      if (previousOwner != UNASSIGNED) {
+        assigned[previousOwner] = UNASSIGNED;
+        bidders.add(previousOwner);
+      }
+      owners[target] = bidder;
+      assigned[bidder] = target;
+    }
+
+    return collect(robots, targets, prices, assigned);
+  }
+
+  // Los K objetivos mas cercanos por Manhattan, con su distancia real caminando
+  private List<TargetPair> findCandidates(Robot robot, Map<Coord, Integer> targetIndexes, Room room) {
+    Coord from = robot.getCoord();
+    List<Coord> nearest = room.findNearestDirty(from, NEAREST_TARGETS);
+    nearest.removeIf(target -> !targetIndexes.containsKey(target));
+
+    Coord previous = previousAssignments.get(robot);
+    if (previous != null && targetIndexes.containsKey(previous) && !nearest.contains(previous)) {
+      nearest.add(previous);
+    }
+
+    int[] distances = distanceFieldService.getDistances(from, nearest, room);
+    List<TargetPair> pairs = new ArrayList<>(nearest.size());
+    for (int i = 0; i < nearest.size(); i++) {
+      if (distances[i] != DistanceField.UNREACHABLE) {
+        pairs.add(new TargetPair(robot, nearest.get(i), distances[i]));
+      }
+    }
+    return pairs;
+  }
+
+  private void warmStart(List<Robot> robots, List<List<TargetPair>> candidates, Map<Coord, Integer> targetIndexes,
+      double[] prices, int[] owners, int[] assigned, double outsideValue, double epsilon) {
+    for (int i = 0; i < robots.size(); i++) {
+      Coord previous = previousAssignments.get(robots.get(i));
+      Integer target = previous != null ? targetIndexes.get(previous) : null;
+      if (target == null || owners[target] != UNASSIGNED) continue;
+
+      owners[target] = i;
+      assigned[i] = target;
+      prices[target] = previousPrices.getOrDefault(previous, 0.0);
+    }
+
+    // Se conserva la asignacion previa solo si sigue cumpliendo eps-holgura
+    // complementaria con los precios finales; soltar un objetivo baja su precio
+    // a 0 y puede invalidar otra asignacion, asi que se repite hasta que no cambie
+    boolean dropped = true;
+    while (dropped) {
+      dropped = false;
+      for (int i = 0; i < robots.size(); i++) {
+        if (assigned[i] == UNASSIGNED) continue;
+
+        double best = outsideValue;
+        double current = Double.NEGATIVE_INFINITY;
+        for (TargetPair pair : candidates.get(i)) {
+          int index = targetIndexes.get(pair.getTarget());
+          double value = -pair.getDistance() - prices[index];
+          best = Math.max(best, value);
+          if (index == assigned[i]) current = value;
+        }
+
+        if (current < best - epsilon) {
+          owners[assigned[i]] = UNASSIGNED;
+          prices[assigned[i]] = 0;
+          assigned[i] = UNASSIGNED;
+          dropped = true;
+        }
+      }
+    }
+  }
+
+  private int bid(List<TargetPair> candidates, Map<Coord, Integer> targetIndexes, double[] prices,
+      double outsideValue, double epsilon) {
+    int bestTarget = UNASSIGNED;
+    double bestValue = outsideValue;
+    double secondValue = outsideValue;
+
+    for (TargetPair pair : candidates) {
+      int index = targetIndexes.get(pair.getTarget());
+      double value = -pair.getDistance() - prices[index];
+
+      if (value > bestValue || (value == bestValue && bestTarget != UNASSIGNED && index < bestTarget)) {
+        secondValue = bestValue;
+        bestValue = value;
+        bestTarget = index;
+      } else if (value > secondValue) {
+        secondValue = value;
+      }
+    }
+
+    if (bestTarget != UNASSIGNED) {
+      prices[bestTarget] += bestValue - secondValue + epsilon;
+    }
+    return bestTarget;
+  }
+
+  private Map<Robot, Coord> collect(List<Robot> robots, List<Coord> targets, double[] prices, int[] assigned) {
+    Map<Robot, Coord> result = new HashMap<>();
+    Map<Coord, Double> ownedPrices = new HashMap<>();
+
+    for (int i = 0; i < robots.size(); i++) {
+      if (assigned[i] == UNASSIGNED) continue;
+
+      Coord target = targets.get(assigned[i]);
+      result.put(robots.get(i), target);
+      ownedPrices.put(target, prices[assigned[i]]);
+    }
+
+    previousAssignments = result;
+    previousPrices = ownedPrices;
+    return new HashMap<>(result);
+  }
+}
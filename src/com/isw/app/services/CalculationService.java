@@ -2,10 +2,13 @@ package com.isw.app.services;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.stream.IntStream;
 import java.util.stream.Collectors;
 import com.isw.app.models.Room;
 import com.isw.app.models.Coord;
+import com.isw.app.models.SummedAreaTable;
 import com.isw.app.enums.SectorType;
 
 public class CalculationService {
@@ -45,14 +48,16 @@ public class CalculationService {
   }
 
   public List<Coord> getValidInitialPositions(Room room) {
+    SummedAreaTable dirty = SummedAreaTable.of(room, SectorType.DIRTY);
     List<Coord> cleanEmptyCoords = room.getCoordsByType(SectorType.CLEAN)
         .stream()
-        .filter(coord -> room.getSectorAt(coord).isEmpty())
+        .filter(room::isEmptyAt)
         .collect(Collectors.toList());
 
     // Separar por prioridad y combinar
     Map<Boolean, List<Coord>> partitioned = cleanEmptyCoords.stream()
-        .collect(Collectors.partitioningBy(coord -> room.hasDirtySectorsNearby(coord, NEARBY_RADIUS)));
+        .collect(Collectors.partitioningBy(
+            coord -> dirty.countAround(coord.getRow(), coord.getCol(), NEARBY_RADIUS) > 0));
 
     List<Coord> result = new ArrayList<>(partitioned.get(true));
     result.addAll(partitioned.get(false));
@@ -60,45 +65,91 @@ public class CalculationService {
   }
 
   public List<Coord> sortPositionsByQuality(List<Coord> positions, Room room) {
-    return positions.stream()
-        .sorted((pos1, pos2) -> Double.compare(
-            evaluatePosition(pos2, room),
-            evaluatePosition(pos1, room)))
-        .collect(Collectors.toList());
+    long[] keys = scorePositions(positions, room);
+    Arrays.sort(keys);
+    return toPositions(keys, positions);
+  }
+
+  // Mismo orden que sortPositionsByQuality, pero solo conserva las mejores con un
+  // monticulo acotado en vez de ordenar todos los candidatos
+  public List<Coord> selectBestPositions(List<Coord> positions, Room room, int count) {
+    if (count <= 0) return new ArrayList<>();
+    if (count >= positions.size()) return sortPositionsByQuality(positions, room);
+
+    long[] keys = scorePositions(positions, room);
+
+    // Monticulo de maximos sobre las claves: la raiz es la peor de las conservadas
+    long[] heap = Arrays.copyOf(keys, count);
+    for (int i = count / 2 - 1; i >= 0; i--) {
+      siftDown(heap, i);
+    }
+    for (int i = count; i < keys.length; i++) {
+      if (keys[i] < heap[0]) {
+        heap[0] = keys[i];
+        siftDown(heap, 0);
+      }
+    }
+
+    Arrays.sort(heap);
+    return toPositions(heap, positions);
+  }
+
+  private void siftDown(long[] heap, int position) {
+    long key = heap[position];
+    int half = heap.length >>> 1;
+
+    while (position < half) {
+      int child = 2 * position + 1;
+      if (child + 1 < heap.length && heap[child + 1] > heap[child]) child++;
+      if (heap[child] <= key) break;
+
+      heap[position] = heap[child];
+      position = child;
+    }
+
+    heap[position] = key;
+  }
+
+  // Cada puntaje se calcula una sola vez, en paralelo; la clave empaqueta el puntaje
+  // negado y el indice original para ordenar primitivos y conservar el orden en empates
+  private long[] scorePositions(List<Coord> positions, Room room) {
+    SummedAreaTable dirty = SummedAreaTable.of(room, SectorType.DIRTY);
+    SummedAreaTable recharge = SummedAreaTable.of(room, SectorType.RECHARGE);
+    SummedAreaTable obstructed = SummedAreaTable.of(room, SectorType.OBSTRUCTED);
+
+    long[] keys = new long[positions.size()];
+    IntStream.range(0, keys.length).parallel().forEach(i -> {
+      long score = evaluatePosition(positions.get(i), room, dirty, recharge, obstructed);
+      keys[i] = (-score << 32) | i;
+    });
+    return keys;
+  }
+
+  private List<Coord> toPositions(long[] keys, List<Coord> positions) {
+    List<Coord> sorted = new ArrayList<>(keys.length);
+    for (long key : keys) {
+      sorted.add(positions.get((int) key));
+    }
+    return sorted;
   }
 
-  private double evaluatePosition(Coord position, Room room) {
-    double score = 0;
+  private int evaluatePosition(Coord position, Room room, SummedAreaTable dirty, SummedAreaTable recharge,
+      SummedAreaTable obstructed) {
+    int row = position.getRow();
+    int col = position.getCol();
+    int score = 0;
 
     // Sectores cercanos por tipo
-    score += countNearbyType(position, room, SectorType.DIRTY, NEARBY_RADIUS) * 100;
-    score += countNearbyType(position, room, SectorType.RECHARGE, 3) * 50;
-    score -= countNearbyType(position, room, SectorType.OBSTRUCTED, 1) * 25;
+    score += dirty.countAround(row, col, NEARBY_RADIUS) * 100;
+    score += recharge.countAround(row, col, 3) * 50;
+    score -= obstructed.countAround(row, col, 1) * 25;
 
     // Accesibilidad (distancia desde bordes)
     int distanceFromEdge = Math.min(
-        Math.min(position.getRow(), room.getRows() - 1 - position.getRow()),
-        Math.min(position.getCol(), room.getCols() - 1 - position.getCol()));
+        Math.min(row, room.getRows() - 1 - row),
+        Math.min(col, room.getCols() - 1 - col));
     score += distanceFromEdge * 10;
 
     return score;
   }
-
-  private long countNearbyType(Coord center, Room room, SectorType type, int radius) {
-    int startRow = Math.max(0, center.getRow() - radius);
-    int endRow = Math.min(room.getRows() - 1, center.getRow() + radius);
-    
-    int startCol = Math.max(0, center.getCol() - radius);
-    int endCol = Math.min(room.getCols() - 1, center.getCol() + radius);
-
-    long count = 0;
-    for (int row = startRow; row <= endRow; row++) {
-      for (int col = startCol; col <= endCol; col++) {
-        if (room.getSectorAt(new Coord(row, col)).getType() == type) {
-          count++;
-        }
-      }
-    }
-    return count;
-  }
 }
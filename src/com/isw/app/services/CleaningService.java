@@ -1,41 +1,66 @@
 package com.isw.app.services;
 
 import java.util.List;
+import java.util.Random;
 import java.util.ArrayList;
 import java.io.IOException;
-import java.util.stream.IntStream;
+import java.nio.file.Path;
 import java.util.stream.Collectors;
 import com.isw.app.models.Room;
 import com.isw.app.models.Robot;
 import com.isw.app.models.Coord;
+import com.isw.app.models.RoomSpec;
 import com.isw.app.models.Decision;
 import com.isw.app.models.Cleaning;
 import com.isw.app.models.StepResult;
+import com.isw.app.models.JournalConfig;
 import com.isw.app.models.Sector;
 import com.isw.app.enums.SectorType;
 import com.isw.app.enums.RobotState;
+import com.isw.app.helpers.RandomHelper;
 import com.isw.app.repositories.RoomRepository;
 import com.isw.app.repositories.RobotRepository;
 import com.isw.app.repositories.HistoryRepository;
 
-public class CleaningService {
+public class CleaningService implements AutoCloseable {
   private final RoomRepository roomRepository;
   private final RobotRepository robotRepository;
   private final HistoryRepository historyRepository;
   private final MovementService movementService;
   private final CalculationService calculationService;
+  private final GenerationService generationService;
+  private final Random random;
 
   public CleaningService() {
+    this(JournalConfig.defaults());
+  }
+
+  public CleaningService(JournalConfig historyConfig) {
+    this(historyConfig, RandomHelper.getRandom());
+  }
+
+  // Con un Random sembrado los salones, robots e identificadores se repiten en cada corrida
+  public CleaningService(JournalConfig historyConfig, Random random) {
+    this.random = random;
     this.roomRepository = new RoomRepository();
     this.robotRepository = new RobotRepository();
-    this.historyRepository = new HistoryRepository();
+    this.historyRepository = new HistoryRepository(historyConfig);
     this.movementService = new MovementService();
     this.calculationService = new CalculationService();
+    this.generationService = new GenerationService(random);
+  }
+
+  public RoomSpec randomSpec() {
+    return RoomSpec.random(random);
   }
 
   public Room generateRoom() {
+    return generateRoom(randomSpec());
+  }
+
+  public Room generateRoom(RoomSpec spec) {
     try {
-      Room room = new Room();
+      Room room = generationService.generate(spec);
       roomRepository.save(room);
       return room;
     } catch (Exception e) {
@@ -43,6 +68,24 @@ public class CleaningService {
     }
   }
 
+  // Carga un salon guardado para reutilizar la misma distribucion en varias corridas
+  public Room loadRoom(Path snapshot) {
+    try {
+      return roomRepository.loadSnapshot(snapshot);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  public boolean saveRoomSnapshot(Room room, Path snapshot) {
+    try {
+      roomRepository.saveSnapshot(room, snapshot);
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
   public List<Robot> generateRobots(Room room) {
     try {
       int robotCount = calculationService.calculateOptimalRobotCount(room);
@@ -50,38 +93,42 @@ public class CleaningService {
       
       if (availablePositions.isEmpty()) return new ArrayList<>();
 
-      List<Coord> bestPositions = calculationService.sortPositionsByQuality(availablePositions, room);
-      return createRobots(robotCount, bestPositions, room);
+      List<Coord> bestPositions = calculationService.selectBestPositions(availablePositions, room, robotCount);
+      return createRobots(bestPositions, room);
     } catch (Exception e) {
       return new ArrayList<>();
     }
   }
 
-  private List<Robot> createRobots(int robotCount, List<Coord> positions, Room room) {
-    return IntStream.range(0, Math.min(robotCount, positions.size()))
-        .mapToObj(i -> createSingleRobot(positions.get(i), room))
-        .filter(robot -> robot != null)
+  private List<Robot> createRobots(List<Coord> positions, Room room) throws IOException {
+    List<Robot> robots = positions.stream()
+        .map(coord -> new Robot(coord, random))
         .collect(Collectors.toList());
+
+    robotRepository.saveAll(robots);
+    robots.forEach(robot -> room.setSectorOccupied(robot.getCoord(), true));
+    return robots;
   }
 
-  private Robot createSingleRobot(Coord position, Room room) {
-    try {
-      Robot robot = new Robot(position);
-      robotRepository.save(robot);
-      room.setSectorOccupied(position, true);
-      return robot;
-    } catch (IOException e) {
-      return null;
-    }
+  public Cleaning createCleaning(Room room, List<Robot> robots) {
+    return new Cleaning(room, robots, random);
   }
 
   public StepResult executeStep(Cleaning cleaning) {
     if (!cleaning.isValid()) return null;
 
-    cleaning.getRoom().updateTemporaryTimers();
+    Room room = cleaning.getRoom();
+    if (room.usesStepTimers()) {
+      room.advanceStep();
+    }
+    List<Coord> changedCoords = room.updateTemporaryTimers();
 
-    List<Decision> decisions = movementService.calculateMovements(cleaning.getRobots(), cleaning.getRoom());
-    List<Robot> processedRobots = processRobotDecisions(decisions, cleaning.getRoom());
+    List<Decision> decisions = movementService.calculateMovements(cleaning.getRobots(), room);
+    List<Coord> previousCoords = decisions.stream()
+        .map(decision -> decision.getRobot().getCoord())
+        .collect(Collectors.toList());
+    List<Robot> processedRobots = processRobotDecisions(decisions, room);
+    collectMovedCoords(processedRobots, previousCoords, changedCoords);
     
     int sectorsCleanedThisStep = (int) processedRobots.stream()
         .filter(robot -> robot.getState() == RobotState.CLEANING)
@@ -90,20 +137,33 @@ public class CleaningService {
     cleaning.incrementSteps();
     cleaning.addCleanedSectors(sectorsCleanedThisStep);
 
-    for (Decision decision : decisions) {
-      historyRepository.logStep(cleaning.getTotalSteps(), decision);
+    for (int i = 0; i < decisions.size(); i++) {
+      historyRepository.logStep(cleaning.getTotalSteps(), i, decisions.get(i));
     }
 
-    boolean isComplete = isSimulationComplete(cleaning.getRoom(), cleaning.getRobots());
+    boolean isComplete = isSimulationComplete(room, cleaning.getRobots());
     if (isComplete) {
       cleaning.setActive(false);
       updateRobotStatesOnEnd(cleaning.getRobots());
+      historyRepository.flush();
     }
 
-    return new StepResult(processedRobots, decisions, sectorsCleanedThisStep, 
+    return new StepResult(processedRobots, decisions, changedCoords, sectorsCleanedThisStep,
                          cleaning.getTotalSteps(), isComplete);
   }
 
+  // Un robot que se mueve cambia la ocupacion de su origen y su destino,
+  // y el destino es el unico sector que pudo limpiarse en el paso
+  private void collectMovedCoords(List<Robot> robots, List<Coord> previousCoords, List<Coord> changedCoords) {
+    for (int i = 0; i < robots.size(); i++) {
+      Coord current = robots.get(i).getCoord();
+      if (!current.equals(previousCoords.get(i))) {
+        changedCoords.add(previousCoords.get(i));
+        changedCoords.add(current);
+      }
+    }
+  }
+
   private List<Robot> processRobotDecisions(List<Decision> decisions, Room room) {
     return decisions.stream()
         .map(decision -> processRobotDecision(decision, room))
@@ -173,11 +233,20 @@ public class CleaningService {
     if (cleaning.getRoom() != null) {
       cleaning.getRoom().startTemporaryTimers();
     }
+    if (cleaning.isValid() && cleaning.getTotalSteps() == 0) {
+      historyRepository.beginRun(cleaning.getRoom(), cleaning.getRobots());
+    }
   }
 
   public void stopCleaning(Cleaning cleaning) {
     cleaning.setActive(false);
     updateRobotStatesOnEnd(cleaning.getRobots());
+    historyRepository.flush();
+  }
+
+  @Override
+  public void close() {
+    historyRepository.close();
   }
 
   public int getCleanedSectors(Cleaning cleaning) {
@@ -0,0 +1,115 @@
+package com.isw.app.services;
+
+import java.util.List;
+import java.util.Arrays;
+import com.isw.app.models.Room;
+import com.isw.app.models.Coord;
+import com.isw.app.enums.SectorType;
+import com.isw.app.models.DistanceField;
+
+// Distancia real caminando desde un robot hasta sus objetivos candidatos: un
+// solo BFS por robot, acotado a una ventana alrededor de el. El radio sale de
+// la distancia Manhattan del candidato mas lejano mas un margen para rodeos,
+// asi el costo depende de lo cerca que esten los candidatos y no del salon
+public class DistanceFieldService {
+  private static final int DETOUR_FACTOR = 4;
+  private static final int DETOUR_SLACK = 32;
+  private static final int[] ROW_STEPS = { -1, 1, 0, 0 };
+  private static final int[] COL_STEPS = { 0, 0, -1, 1 };
+
+  // Memoria de trabajo reutilizada entre busquedas; una celda esta visitada
+  // si su marca coincide con la busqueda actual
+  private int[] marks = new int[0];
+  private int[] queue = new int[0];
+  private int mark;
+
+  // Posicion i: pasos desde from hasta targets[i], o UNREACHABLE si no hay
+  // camino dentro de la ventana
+  public int[] getDistances(Coord from, List<Coord> targets, Room room) {
+    int[] distances = new int[targets.size()];
+    Arrays.fill(distances, DistanceField.UNREACHABLE);
+    if (targets.isEmpty()) return distances;
+
+    int radius = 0;
+    for (Coord target : targets) {
+      radius = Math.max(radius, from.distanceTo(target));
+    }
+    radius = radius * DETOUR_FACTOR + DETOUR_SLACK;
+
+    int firstRow = Math.max(0, from.getRow() - radius);
+    int lastRow = Math.min(room.getRows() - 1, from.getRow() + radius);
+    int firstCol = Math.max(0, from.getCol() - radius);
+    int lastCol = Math.min(room.getCols() - 1, from.getCol() + radius);
+    int width = lastCol - firstCol + 1;
+    int height = lastRow - firstRow + 1;
+    nextMark(width * height);
+
+    int[] goals = new int[targets.size()];
+    for (int i = 0; i < goals.length; i++) {
+      Coord target = targets.get(i);
+      boolean inside = target.getRow() >= firstRow && target.getRow() <= lastRow &&
+          target.getCol() >= firstCol && target.getCol() <= lastCol;
+      goals[i] = inside ? (target.getRow() - firstRow) * width + (target.getCol() - firstCol) : -1;
+    }
+
+    int start = (from.getRow() - firstRow) * width + (from.getCol() - firstCol);
+    int remaining = reach(goals, start, 0, distances, goals.length);
+    marks[start] = mark;
+    queue[0] = start;
+
+    int head = 0;
+    int tail = 1;
+    int distance = 0;
+    while (head < tail && remaining > 0 && distance < radius) {
+      distance++;
+      for (int layerEnd = tail; head < layerEnd && remaining > 0; head++) {
+        int row = queue[head] / width;
+        int col = queue[head] % width;
+
+        for (int direction = 0; direction < 4; direction++) {
+          int nextRow = row + ROW_STEPS[direction];
+          int nextCol = col + COL_STEPS[direction];
+          if (nextRow < 0 || nextRow >= height || nextCol < 0 || nextCol >= width) continue;
+
+          int index = nextRow * width + nextCol;
+          if (marks[index] == mark) continue;
+          marks[index] = mark;
+
+          remaining = reach(goals, index, distance, distances, remaining);
+          if (isEnterable(room.getTypeAt(firstRow + nextRow, firstCol + nextCol))) {
+            queue[tail++] = index;
+          }
+        }
+      }
+    }
+
+    return distances;
+  }
+
+  private int reach(int[] goals, int index, int distance, int[] distances, int remaining) {
+    for (int i = 0; i < goals.length; i++) {
+      if (goals[i] == index && distances[i] == DistanceField.UNREACHABLE) {
+        distances[i] = distance;
+        remaining--;
+      }
+    }
+    return remaining;
+  }
+
+  private void nextMark(int cells) {
+    if (marks.length < cells) {
+      marks = new int[cells];
+      queue = new int[cells];
+      mark = 0;
+    }
+    if (++mark == Integer.MAX_VALUE) {
+      Arrays.fill(marks, 0);
+      mark = 1;
+    }
+  }
+
+  // Igual que el campo de distancias: solo los sectores limpios o sucios propagan
+  private boolean isEnterable(SectorType type) {
+    return type == SectorType.CLEAN || type == SectorType.DIRTY;
+  }
+}
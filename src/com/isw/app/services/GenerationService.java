@@ -0,0 +1,124 @@
+package com.isw.app.services;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import com.isw.app.models.Room;
+import com.isw.app.models.RoomSpec;
+import com.isw.app.enums.SectorType;
+import com.isw.app.helpers.RandomHelper;
+
+public class GenerationService {
+  private static final int MIN_TEMP_TIME = 2;
+  private static final int MAX_TEMP_TIME = 6;
+  private static final int BAND_CELLS = 1 << 16;
+  private static final long BAND_SEED_STEP = 0x9E3779B97F4A7C15L;
+  private static final SectorType[] TYPES = SectorType.values();
+
+  // Solo se usa para el identificador; la distribucion sale de la semilla del spec
+  private final Random random;
+
+  public GenerationService() {
+    this(RandomHelper.getRandom());
+  }
+
+  public GenerationService(Random random) {
+    this.random = random;
+  }
+
+  public Room generate(RoomSpec spec) {
+    int rows = spec.getRows();
+    int cols = spec.getCols();
+    int[] cumulative = buildCumulativeWeights(spec);
+
+    byte[] types = new byte[rows * cols];
+    byte[] temporaryTimers = new byte[rows * cols];
+
+    // Bandas de filas independientes: cada una con su propia semilla derivada,
+    // asi el resultado no depende de cuantos hilos participen
+    int rowsPerBand = Math.max(1, BAND_CELLS / cols);
+    int bands = (rows + rowsPerBand - 1) / rowsPerBand;
+    int[] rechargePerBand = new int[bands];
+
+    IntStream.range(0, bands).parallel().forEach(band -> {
+      int from = band * rowsPerBand * cols;
+      int to = Math.min(rows, (band + 1) * rowsPerBand) * cols;
+      SplittableRandom random = new SplittableRandom(spec.getSeed() + band * BAND_SEED_STEP);
+      rechargePerBand[band] = fillBand(types, temporaryTimers, from, to, cumulative, random);
+    });
+
+    enforceRechargeCap(types, rechargePerBand, rowsPerBand * cols);
+    Room room = new Room(rows, cols, types, temporaryTimers, random);
+    room.setStepTimers(spec.usesStepTimers());
+    return room;
+  }
+
+  private int[] buildCumulativeWeights(RoomSpec spec) {
+    int[] cumulative = new int[TYPES.length];
+    int total = 0;
+
+    for (SectorType type : TYPES) {
+      total += spec.getWeight(type);
+      cumulative[type.ordinal()] = total;
+    }
+
+    if (total <= 0) {
+      throw new IllegalArgumentException("La suma de pesos de sectores debe ser positiva");
+    }
+
+    return cumulative;
+  }
+
+  private int fillBand(byte[] types, byte[] temporaryTimers, int from, int to, int[] cumulative,
+      SplittableRandom random) {
+    int total = cumulative[cumulative.length - 1];
+    int recharges = 0;
+
+    for (int index = from; index < to; index++) {
+      int value = random.nextInt(total);
+      int ordinal = 0;
+      while (value >= cumulative[ordinal]) {
+        ordinal++;
+      }
+
+      types[index] = (byte) ordinal;
+      if (ordinal == SectorType.TEMPORARY.ordinal()) {
+        temporaryTimers[index] = (byte) random.nextInt(MIN_TEMP_TIME, MAX_TEMP_TIME + 1);
+      } else if (ordinal == SectorType.RECHARGE.ordinal()) {
+        recharges++;
+      }
+    }
+
+    return recharges;
+  }
+
+  private void enforceRechargeCap(byte[] types, int[] rechargePerBand, int bandCells) {
+    // Se conservan las primeras MAX_RECHARGE estaciones en orden de filas,
+    // igual que la generacion secuencial original
+    int[] quota = new int[rechargePerBand.length];
+    int seen = 0;
+
+    for (int band = 0; band < rechargePerBand.length; band++) {
+      quota[band] = Math.max(0, Room.MAX_RECHARGE - seen);
+      seen += rechargePerBand[band];
+    }
+
+    if (seen <= Room.MAX_RECHARGE) return;
+
+    byte recharge = (byte) SectorType.RECHARGE.ordinal();
+    byte clean = (byte) SectorType.CLEAN.ordinal();
+
+    IntStream.range(0, rechargePerBand.length).parallel()
+        .filter(band -> rechargePerBand[band] > quota[band])
+        .forEach(band -> {
+          int kept = 0;
+          int to = (int) Math.min(types.length, (long) (band + 1) * bandCells);
+
+          for (int index = band * bandCells; index < to; index++) {
+            if (types[index] == recharge && kept++ >= quota[band]) {
+              types[index] = clean;
+            }
+          }
+        });
+  }
+}
@@ -0,0 +1,71 @@
+package com.isw.app.services;
+
+public class JumpPointSearch extends AStarSearch {
+
+  public JumpPointSearch(NavigationService navigationService) {
+    super(navigationService);
+  }
+
+  // Variante de JPS para rejillas de 4 vecinos y costo uniforme: solo se
+  // encolan los puntos de salto, las celdas intermedias se reconstruyen al final
+  @Override
+  protected void expand(int current, int parent) {
+    int row = current / cols;
+    int col = current % cols;
+
+    if (parent == NONE) {
+      for (int dir = 0; dir < ROW_STEPS.length; dir++) {
+        addJumpPoint(current, row, col, ROW_STEPS[dir], COL_STEPS[dir]);
+      }
+      return;
+    }
+
+    int dRow = Integer.signum(row - parent / cols);
+    int dCol = Integer.signum(col - parent % cols);
+
+    if (dCol != 0) {
+      addJumpPoint(current, row, col, -1, 0);
+      addJumpPoint(current, row, col, 1, 0);
+      addJumpPoint(current, row, col, 0, dCol);
+    } else {
+      addJumpPoint(current, row, col, 0, -1);
+      addJumpPoint(current, row, col, 0, 1);
+      addJumpPoint(current, row, col, dRow, 0);
+    }
+  }
+
+  private void addJumpPoint(int current, int row, int col, int dRow, int dCol) {
+    int jumpPoint = jump(row + dRow, col + dCol, dRow, dCol);
+    if (jumpPoint != NONE) {
+      relax(jumpPoint, current);
+    }
+  }
+
+  private int jump(int row, int col, int dRow, int dCol) {
+    while (isWalkable(row, col)) {
+      int index = row * cols + col;
+      if (index == goalIndex) return index;
+
+      if (dCol != 0) {
+        if ((isWalkable(row - 1, col) && !isWalkable(row - 1, col - dCol)) ||
+            (isWalkable(row + 1, col) && !isWalkable(row + 1, col - dCol))) {
+          return index;
+        }
+      } else {
+        if ((isWalkable(row, col - 1) && !isWalkable(row - dRow, col - 1)) ||
+            (isWalkable(row, col + 1) && !isWalkable(row - dRow, col + 1))) {
+          return index;
+        }
+        // Avanzando en vertical, cualquier salto horizontal convierte esta celda en punto de salto
+        if (jump(row, col - 1, 0, -1) != NONE || jump(row, col + 1, 0, 1) != NONE) {
+          return index;
+        }
+      }
+
+      row += dRow;
+      col += dCol;
+    }
+
+    return NONE;
+  }
+}
@@ -1,58 +1,131 @@
 package com.isw.app.services;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.List;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.IntStream;
 import com.isw.app.models.Room;
 import com.isw.app.models.Coord;
 import com.isw.app.models.Robot;
-import java.util.stream.Collectors;
 import com.isw.app.models.Decision;
 import com.isw.app.models.Movement;
 import com.isw.app.enums.SectorType;
 
 public class MovementService {
   private static final double DEFAULT_SCORE = 1000.0;
+  private static final int PARALLEL_THRESHOLD = 64;
 
   private final PathfindingService pathfindingService;
   private final AssignmentService assignmentService;
   private final NavigationService navigationService;
   private final CoordinateService coordinateService;
+  private final RouteService routeService;
+  // Opcional: cada hilo de la fase paralela usa su propio motor de busqueda
+  // con memoria proporcional al salon
+  private boolean parallelDecisions = false;
 
   public MovementService() {
     this.coordinateService = new CoordinateService();
     this.navigationService = new NavigationService(coordinateService);
     this.pathfindingService = new PathfindingService();
-    this.assignmentService = new AssignmentService(pathfindingService);
+    this.assignmentService = new AssignmentService();
+    this.routeService = new RouteService(pathfindingService, navigationService);
+  }
+
+  public boolean isParallelDecisions() {
+    return parallelDecisions;
+  }
+
+  public void setParallelDecisions(boolean parallelDecisions) {
+    this.parallelDecisions = parallelDecisions;
   }
 
   public List<Decision> calculateMovements(List<Robot> robots, Room room) {
-    List<Coord> reservedCoords = new ArrayList<>();
+    routeService.retainRobots(robots);
     Map<Robot, Coord> assignments = assignmentService.assignObjectives(robots, room);
 
-    return robots.stream()
-        .map(robot -> {
-          Decision decision = calculateSingleRobotMovement(robot, room, reservedCoords, assignments);
-          if (decision.hasValidMovement()) {
-            reservedCoords.add(decision.getTargetCoord());
-          }
-          return decision;
-        })
-        .collect(Collectors.toList());
+    boolean[] exiting = new boolean[robots.size()];
+    for (int i = 0; i < robots.size(); i++) {
+      exiting[i] = isExitingRecharge(robots.get(i), room);
+    }
+
+    List<Decision> decisions = parallelDecisions && robots.size() >= PARALLEL_THRESHOLD
+        ? calculateInParallel(robots, room, assignments, exiting)
+        : calculateSequentially(robots, room, assignments, exiting);
+
+    for (int i = 0; i < robots.size(); i++) {
+      if (exiting[i]) robots.get(i).clearRechargePosition();
+    }
+
+    return decisions;
   }
 
-  private Decision calculateSingleRobotMovement(Robot robot, Room room, List<Coord> reservedCoords,
-      Map<Robot, Coord> assignments) {
-    Coord currentPos = robot.getCoord();
-    SectorType currentType = room.getSectorAt(currentPos).getType();
+  private List<Decision> calculateSequentially(List<Robot> robots, Room room, Map<Robot, Coord> assignments,
+      boolean[] exiting) {
+    Set<Coord> reservedCoords = new HashSet<>();
+    List<Decision> decisions = new ArrayList<>(robots.size());
+
+    for (int i = 0; i < robots.size(); i++) {
+      Decision decision = calculateSingleRobotMovement(robots.get(i), room, reservedCoords, assignments, exiting[i]);
+      if (decision.hasValidMovement()) {
+        reservedCoords.add(decision.getTargetCoord());
+      }
+      decisions.add(decision);
+    }
+
+    return decisions;
+  }
+
+  // Fase paralela sin reservas sobre el salon en solo lectura; luego una pasada
+  // secuencial por prioridad resuelve las colisiones de forma determinista
+  private List<Decision> calculateInParallel(List<Robot> robots, Room room, Map<Robot, Coord> assignments,
+      boolean[] exiting) {
+    Set<Coord> noReservations = Collections.emptySet();
+    Decision[] proposals = IntStream.range(0, robots.size()).parallel()
+        .mapToObj(i -> calculateSingleRobotMovement(robots.get(i), room, noReservations, assignments, exiting[i]))
+        .toArray(Decision[]::new);
+    pathfindingService.releaseIdleEngines();
+
+    Integer[] priority = IntStream.range(0, robots.size()).boxed().toArray(Integer[]::new);
+    Arrays.sort(priority, Comparator.comparingInt((Integer i) -> robots.get(i).getBattery())
+        .thenComparingInt(i -> i));
+
+    Set<Coord> reservedCoords = new HashSet<>();
+    Decision[] decisions = new Decision[robots.size()];
+
+    for (int i : priority) {
+      Decision decision = proposals[i];
+      if (decision.hasValidMovement() && reservedCoords.contains(decision.getTargetCoord())) {
+        decision = calculateSingleRobotMovement(robots.get(i), room, reservedCoords, assignments, exiting[i]);
+      }
+      if (decision.hasValidMovement()) {
+        reservedCoords.add(decision.getTargetCoord());
+      }
+      decisions[i] = decision;
+    }
 
-    if (currentType == SectorType.RECHARGE && robot.isAtRechargePosition()) {
+    return new ArrayList<>(Arrays.asList(decisions));
+  }
+
+  private boolean isExitingRecharge(Robot robot, Room room) {
+    return room.getTypeAt(robot.getCoord()) == SectorType.RECHARGE && robot.isAtRechargePosition();
+  }
+
+  private Decision calculateSingleRobotMovement(Robot robot, Room room, Collection<Coord> reservedCoords,
+      Map<Robot, Coord> assignments, boolean exiting) {
+    if (exiting) {
       return createExitDecision(robot, room, reservedCoords, assignments);
     }
 
     Coord assignedTarget = assignments.get(robot);
     if (assignedTarget == null) {
+      routeService.invalidate(robot);
       return new Decision(robot, null);
     }
 
@@ -74,38 +147,36 @@ public class MovementService {
   }
 
   private boolean isOccupiedRecharge(Coord coord, Room room) {
-    return room.getSectorAt(coord).getType() == SectorType.RECHARGE &&
+    return room.getTypeAt(coord) == SectorType.RECHARGE &&
         navigationService.isRechargeOccupied(room, coord);
   }
 
-  private Decision createExitDecision(Robot robot, Room room, List<Coord> reservedCoords,
+  private Decision createExitDecision(Robot robot, Room room, Collection<Coord> reservedCoords,
       Map<Robot, Coord> assignments) {
-    robot.clearRechargePosition();
+    routeService.invalidate(robot);
     Coord exitMove = findExitMove(robot, room, reservedCoords, assignments.get(robot));
     return new Decision(robot, exitMove != null ? new Movement(exitMove, DEFAULT_SCORE) : null);
   }
 
-  private Coord findExitMove(Robot robot, Room room, List<Coord> reservedCoords, Coord target) {
+  private Coord findExitMove(Robot robot, Room room, Collection<Coord> reservedCoords, Coord target) {
     return navigationService.getUnblockedAdjacentCoords(robot.getCoord(), room, reservedCoords).stream()
-        .filter(coord -> room.getSectorAt(coord).getType() != SectorType.RECHARGE)
+        .filter(coord -> room.getTypeAt(coord) != SectorType.RECHARGE)
         .min(Comparator.comparing(c -> target != null ? coordinateService.calculateDistance(c, target) : 0))
         .orElse(null);
   }
 
-  private Coord findNextMove(Robot robot, Coord target, Room room, List<Coord> reservedCoords) {
-    boolean isGoingToDirty = room.getSectorAt(target).getType() == SectorType.DIRTY;
+  private Coord findNextMove(Robot robot, Coord target, Room room, Collection<Coord> reservedCoords) {
+    boolean isGoingToDirty = room.getTypeAt(target) == SectorType.DIRTY;
 
-    // Calcular path excluyendo sectores ocupados por robots inactivos
-    List<Coord> path = pathfindingService.findShortestPathAvoidingRobots(
-        robot.getCoord(), target, room, isGoingToDirty);
+    // Ruta reutilizada entre pasos; solo se recalcula si deja de ser valida
+    Coord nextStep = routeService.getNextStep(robot, target, room, isGoingToDirty);
 
-    if (path == null || path.isEmpty())
+    if (nextStep == null)
       return null;
 
-    Coord nextStep = path.get(0);
-
     // Si el siguiente paso está bloqueado por reservas de este turno
     if (reservedCoords.contains(nextStep)) {
+      routeService.invalidate(robot);
       return findAlternativeRoute(robot, target, room, reservedCoords, isGoingToDirty);
     }
 
@@ -113,7 +184,7 @@ public class MovementService {
   }
 
   private Coord findAlternativeRoute(Robot robot, Coord target, Room room,
-      List<Coord> reservedCoords, boolean allowRechargeTraversal) {
+      Collection<Coord> reservedCoords, boolean allowRechargeTraversal) {
     List<Coord> availableMoves = navigationService.getUnblockedAdjacentCoords(
         robot.getCoord(), room, reservedCoords);
 
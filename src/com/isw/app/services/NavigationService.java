@@ -1,6 +1,7 @@
 package com.isw.app.services;
 
 import java.util.List;
+import java.util.Collection;
 import com.isw.app.models.Room;
 import com.isw.app.models.Coord;
 import java.util.stream.Collectors;
@@ -14,41 +15,42 @@ public class NavigationService {
   }
 
   public boolean canNavigate(Coord coord, Coord goal, Room room, boolean allowRechargeTraversal) {
-    SectorType type = room.getSectorAt(coord).getType();
+    return canNavigate(room.getTypeAt(coord), coord.equals(goal), allowRechargeTraversal);
+  }
 
+  public boolean canNavigate(SectorType type, boolean isGoal, boolean allowRechargeTraversal) {
     if (type == SectorType.CLEAN || type == SectorType.DIRTY) {
       return true;
     }
 
     if (type == SectorType.RECHARGE) {
-      return coord.equals(goal) || allowRechargeTraversal;
+      return isGoal || allowRechargeTraversal;
     }
 
     return false;
   }
 
-  public boolean isBlocked(Coord coord, Room room, List<Coord> reservedCoords) {
-    return reservedCoords.contains(coord) || !room.getSectorAt(coord).isEmpty();
+  public boolean isBlocked(Coord coord, Room room, Collection<Coord> reservedCoords) {
+    return reservedCoords.contains(coord) || !room.isEmptyAt(coord);
   }
 
   public boolean isRechargeOccupied(Room room, Coord target) {
-    return room.getSectorAt(target).getType() == SectorType.RECHARGE &&
-        !room.getSectorAt(target).isEmpty();
+    return room.getTypeAt(target) == SectorType.RECHARGE && !room.isEmptyAt(target);
   }
 
   public List<Coord> getValidAdjacentCoords(Coord current, Room room) {
     return coordinateService.getAdjacentCoords(current, room).stream()
-        .filter(coord -> room.getSectorAt(coord).isNavigable())
+        .filter(room::isNavigableAt)
         .collect(Collectors.toList());
   }
 
-  public List<Coord> getUnblockedAdjacentCoords(Coord current, Room room, List<Coord> reservedCoords) {
+  public List<Coord> getUnblockedAdjacentCoords(Coord current, Room room, Collection<Coord> reservedCoords) {
     return getValidAdjacentCoords(current, room).stream()
         .filter(coord -> !isBlocked(coord, room, reservedCoords))
         .collect(Collectors.toList());
   }
 
   public boolean isNavigableBasic(Coord coord, Room room) {
-    return room.getSectorAt(coord).isNavigable();
+    return room.isNavigableAt(coord);
   }
 }
@@ -10,14 +10,34 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import com.isw.app.models.Room;
 import com.isw.app.models.Coord;
+import com.isw.app.enums.PathMode;
 
 public class PathfindingService {
   private final CoordinateService coordinateService;
   private final NavigationService navigationService;
+  private final SearchEnginePool<AStarSearch> aStarSearch;
+  private final SearchEnginePool<JumpPointSearch> jumpPointSearch;
+  private PathMode mode;
 
   public PathfindingService() {
+    this(PathMode.ASTAR);
+  }
+
+  public PathfindingService(PathMode mode) {
     this.coordinateService = new CoordinateService();
     this.navigationService = new NavigationService(coordinateService);
+    // Un motor por consulta en curso: la memoria de trabajo no es compartible
+    this.aStarSearch = new SearchEnginePool<>(() -> new AStarSearch(navigationService));
+    this.jumpPointSearch = new SearchEnginePool<>(() -> new JumpPointSearch(navigationService));
+    this.mode = mode;
+  }
+
+  public PathMode getMode() {
+    return mode;
+  }
+
+  public void setMode(PathMode mode) {
+    this.mode = mode;
   }
 
   public List<Coord> findShortestPath(Coord start, Coord goal, Room room) {
@@ -25,39 +45,49 @@ public class PathfindingService {
   }
 
   public List<Coord> findShortestPath(Coord start, Coord goal, Room room, boolean allowRechargeTraversal) {
-    if (start.equals(goal))
-      return new ArrayList<>();
-
-    Queue<Coord> queue = new LinkedList<>();
-    Map<Coord, Coord> parent = new HashMap<>();
-    Set<Coord> visited = new HashSet<>();
+    return findPath(start, goal, room, allowRechargeTraversal, false);
+  }
 
-    queue.offer(start);
-    visited.add(start);
-    parent.put(start, null);
+  public List<Coord> findShortestPathAvoidingRobots(Coord start, Coord goal, Room room,
+      boolean allowRechargeTraversal) {
+    return findPath(start, goal, room, allowRechargeTraversal, true);
+  }
 
-    while (!queue.isEmpty()) {
-      Coord current = queue.poll();
+  public List<Coord> getValidAdjacentCoords(Coord current, Room room) {
+    return navigationService.getValidAdjacentCoords(current, room);
+  }
 
-      if (current.equals(goal)) {
-        return reconstructPath(parent, goal);
-      }
+  // Tras una fase paralela quedan tantos motores como hilos la atendieron
+  public void releaseIdleEngines() {
+    aStarSearch.trim();
+    jumpPointSearch.trim();
+  }
 
-      for (Coord neighbor : coordinateService.getAdjacentCoords(current, room)) {
-        if (!visited.contains(neighbor) &&
-            navigationService.canNavigate(neighbor, goal, room, allowRechargeTraversal)) {
-          visited.add(neighbor);
-          parent.put(neighbor, current);
-          queue.offer(neighbor);
+  private List<Coord> findPath(Coord start, Coord goal, Room room, boolean allowRechargeTraversal,
+      boolean avoidRobots) {
+    switch (mode) {
+      case BFS:
+        return breadthFirstSearch(start, goal, room, allowRechargeTraversal, avoidRobots);
+      case JPS:
+        JumpPointSearch jps = jumpPointSearch.acquire();
+        try {
+          return jps.findPath(start, goal, room, allowRechargeTraversal, avoidRobots);
+        } finally {
+          jumpPointSearch.release(jps);
+        }
+      case ASTAR:
+      default:
+        AStarSearch aStar = aStarSearch.acquire();
+        try {
+          return aStar.findPath(start, goal, room, allowRechargeTraversal, avoidRobots);
+        } finally {
+          aStarSearch.release(aStar);
         }
-      }
     }
-
-    return null;
   }
 
-  public List<Coord> findShortestPathAvoidingRobots(Coord start, Coord goal, Room room,
-      boolean allowRechargeTraversal) {
+  private List<Coord> breadthFirstSearch(Coord start, Coord goal, Room room, boolean allowRechargeTraversal,
+      boolean avoidRobots) {
     if (start.equals(goal))
       return new ArrayList<>();
 
@@ -79,7 +109,7 @@ public class PathfindingService {
       for (Coord neighbor : coordinateService.getAdjacentCoords(current, room)) {
         if (!visited.contains(neighbor) &&
             navigationService.canNavigate(neighbor, goal, room, allowRechargeTraversal) &&
-            room.getSectorAt(neighbor).isEmpty()) {
+            (!avoidRobots || room.isEmptyAt(neighbor))) {
           visited.add(neighbor);
           parent.put(neighbor, current);
           queue.offer(neighbor);
@@ -90,10 +120,6 @@ public class PathfindingService {
     return null;
   }
 
-  public List<Coord> getValidAdjacentCoords(Coord current, Room room) {
-    return navigationService.getValidAdjacentCoords(current, room);
-  }
-
   private List<Coord> reconstructPath(Map<Coord, Coord> parent, Coord goal) {
     List<Coord> path = new ArrayList<>();
     Coord current = goal;
@@ -0,0 +1,77 @@
+package com.isw.app.services;
+
+import java.util.Map;
+import java.util.List;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import com.isw.app.models.Room;
+import com.isw.app.models.Coord;
+import com.isw.app.models.Robot;
+import com.isw.app.models.Route;
+
+public class RouteService {
+  private static final int LOOKAHEAD = 3;
+
+  private final PathfindingService pathfindingService;
+  private final NavigationService navigationService;
+  private final Map<Robot, Route> routes = new ConcurrentHashMap<>();
+
+  public RouteService(PathfindingService pathfindingService, NavigationService navigationService) {
+    this.pathfindingService = pathfindingService;
+    this.navigationService = navigationService;
+  }
+
+  public Coord getNextStep(Robot robot, Coord target, Room room, boolean allowRechargeTraversal) {
+    Route route = routes.get(robot);
+
+    if (route != null && robot.getCoord().equals(route.peekNext())) {
+      route.advance();
+    }
+
+    if (route == null || !route.isFor(target, allowRechargeTraversal) || !isStillValid(route, robot, room)) {
+      route = plan(robot, target, room, allowRechargeTraversal);
+    }
+
+    return route != null ? route.peekNext() : null;
+  }
+
+  public void invalidate(Robot robot) {
+    routes.remove(robot);
+  }
+
+  public void retainRobots(Collection<Robot> robots) {
+    routes.keySet().retainAll(new HashSet<>(robots));
+  }
+
+  private Route plan(Robot robot, Coord target, Room room, boolean allowRechargeTraversal) {
+    List<Coord> path = pathfindingService.findShortestPathAvoidingRobots(
+        robot.getCoord(), target, room, allowRechargeTraversal);
+
+    if (path == null || path.isEmpty()) {
+      routes.remove(robot);
+      return null;
+    }
+
+    Route route = new Route(target, allowRechargeTraversal, path);
+    routes.put(robot, route);
+    return route;
+  }
+
+  // Solo se revisan las proximas celdas; el resto se valida al acercarse
+  private boolean isStillValid(Route route, Robot robot, Room room) {
+    if (route.isEmpty() || robot.getCoord().distanceTo(route.peekNext()) != 1) return false;
+
+    Iterator<Coord> steps = route.iterator();
+    for (int i = 0; i < LOOKAHEAD && steps.hasNext(); i++) {
+      Coord step = steps.next();
+      if (!navigationService.canNavigate(step, route.getTarget(), room, route.allowsRechargeTraversal()) ||
+          !room.isEmptyAt(step)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
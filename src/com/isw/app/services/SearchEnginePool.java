@@ -0,0 +1,33 @@
+package com.isw.app.services;
+
+import java.util.Deque;
+import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+// Motores de busqueda compartidos entre hilos: cada consulta toma uno libre o
+// crea otro, asi nunca hay mas motores que consultas simultaneas. Cada motor
+// guarda arreglos del tamano del salon, por eso trim suelta los sobrantes
+class SearchEnginePool<T> {
+  private final Supplier<T> factory;
+  private final Deque<T> idle = new ConcurrentLinkedDeque<>();
+
+  SearchEnginePool(Supplier<T> factory) {
+    this.factory = factory;
+  }
+
+  T acquire() {
+    T engine = idle.pollFirst();
+    return engine != null ? engine : factory.get();
+  }
+
+  void release(T engine) {
+    idle.offerFirst(engine);
+  }
+
+  // Conserva un solo motor libre para las consultas secuenciales
+  void trim() {
+    while (idle.size() > 1) {
+      idle.pollLast();
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.isw.app.services;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CountDownLatch;
+import com.isw.app.models.Cleaning;
+import com.isw.app.models.StepResult;
+import com.isw.app.models.SimulationFrame;
+import com.isw.app.helpers.FrameExchanger;
+
+// Ejecuta los pasos de una limpieza en su propio hilo para que un paso lento
+// no congele la interfaz; cada paso se publica como un cuadro inmutable.
+// En modo turbo se ejecutan varios pasos por cuadro sin esperar entre ellos,
+// pero el lote se publica al cumplirse el intervalo de cuadro aunque no termine
+public class SimulationLoop {
+  public static final long DEFAULT_STEP_INTERVAL = 500;
+  public static final int FRAME_INTERVAL = 16;
+  private static final long FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(FRAME_INTERVAL);
+  private static final long CONSUMER_POLL_MILLIS = 1;
+
+  private final CleaningService cleaningService;
+  private final Cleaning cleaning;
+  private final FrameExchanger<SimulationFrame> frames =
+      new FrameExchanger<>((pending, frame) -> frame.mergeAfter(pending));
+  private final CountDownLatch stopSignal = new CountDownLatch(1);
+  private final CountDownLatch finishedSignal = new CountDownLatch(1);
+
+  private volatile long stepInterval = DEFAULT_STEP_INTERVAL;
+  private volatile int stepsPerFrame = 1;
+  private volatile boolean running;
+
+  public SimulationLoop(CleaningService cleaningService, Cleaning cleaning) {
+    this.cleaningService = cleaningService;
+    this.cleaning = cleaning;
+  }
+
+  public void start() {
+    running = true;
+    Thread thread = new Thread(this::run, "simulation-" + cleaning.getUuid());
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  // No espera al hilo: el paso en curso termina y se publica un cuadro final
+  public void stop() {
+    stopSignal.countDown();
+  }
+
+  // Espera a que termine el paso en curso; necesario antes de tocar el mismo salon
+  public void awaitTermination() throws InterruptedException {
+    if (running) finishedSignal.await();
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  public SimulationFrame pollFrame() {
+    return frames.take();
+  }
+
+  public void setStepInterval(long stepInterval) {
+    this.stepInterval = Math.max(0, stepInterval);
+  }
+
+  // Con mas de un paso por cuadro se ignora el intervalo (modo turbo)
+  public void setStepsPerFrame(int stepsPerFrame) {
+    this.stepsPerFrame = Math.max(1, stepsPerFrame);
+  }
+
+  private void run() {
+    try {
+      while (stopSignal.getCount() > 0) {
+        int batch = stepsPerFrame;
+        long deadline = System.nanoTime() + FRAME_NANOS;
+        SimulationFrame frame = null;
+        boolean complete = false;
+        int steps = 0;
+
+        while (steps < batch && stopSignal.getCount() > 0) {
+          StepResult result = cleaningService.executeStep(cleaning);
+          if (result == null) break;
+
+          SimulationFrame next = SimulationFrame.of(result, cleaning, cleaningService.getMissionStatus(cleaning));
+          frame = frame == null ? next : next.mergeAfter(frame);
+          steps++;
+          if (result.isComplete()) {
+            complete = true;
+            break;
+          }
+          if (System.nanoTime() - deadline >= 0) break;
+        }
+
+        if (frame == null) break;
+        frames.publish(frame);
+        if (complete) return;
+
+        // Un lote cortado por tiempo ya tardo un cuadro: se sigue sin esperar
+        if (batch > 1) {
+          if (steps == batch) awaitConsumer();
+        } else if (stopSignal.await(stepInterval, TimeUnit.MILLISECONDS)) {
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (cleaning.isActive()) {
+        cleaningService.stopCleaning(cleaning);
+      }
+      frames.publish(SimulationFrame.finished(cleaning, cleaningService.getMissionStatus(cleaning)));
+      running = false;
+      finishedSignal.countDown();
+    }
+  }
+
+  // Si el lote completo tardo menos de un cuadro, el siguiente empieza cuando la
+  // interfaz tomo el anterior, asi no se dibujan mas de N pasos por cuadro
+  private void awaitConsumer() throws InterruptedException {
+    while (!frames.isEmpty()) {
+      if (stopSignal.await(CONSUMER_POLL_MILLIS, TimeUnit.MILLISECONDS)) return;
+    }
+  }
+}
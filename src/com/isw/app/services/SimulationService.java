@@ -0,0 +1,89 @@
+package com.isw.app.services;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+import com.isw.app.models.Room;
+import com.isw.app.models.Robot;
+import com.isw.app.models.Cleaning;
+import com.isw.app.models.RoomSpec;
+import com.isw.app.models.StepResult;
+import com.isw.app.models.SimulationSummary;
+
+public class SimulationService {
+  public static final int DEFAULT_MAX_STEPS = 10_000;
+
+  private final CleaningService cleaningService;
+  private final int maxSteps;
+
+  public SimulationService() {
+    this(new CleaningService(), DEFAULT_MAX_STEPS);
+  }
+
+  public SimulationService(CleaningService cleaningService, int maxSteps) {
+    this.cleaningService = cleaningService;
+    this.maxSteps = maxSteps;
+  }
+
+  public SimulationSummary runMission() {
+    return runMission(cleaningService.randomSpec());
+  }
+
+  public SimulationSummary runMission(RoomSpec spec) {
+    return runMission(cleaningService.generateRoom(spec));
+  }
+
+  public SimulationSummary runMission(Room room) {
+    if (room == null) return null;
+
+    List<Robot> robots = cleaningService.generateRobots(room);
+    return runMission(cleaningService.createCleaning(room, robots));
+  }
+
+  public SimulationSummary runMission(Cleaning cleaning) {
+    if (cleaning == null || !cleaning.isValid()) return null;
+
+    long start = System.nanoTime();
+    cleaningService.startCleaning(cleaning);
+
+    // Sin temporizador de Swing: se avanza tan rapido como lo permita el CPU
+    while (cleaning.getTotalSteps() < maxSteps) {
+      StepResult result = cleaningService.executeStep(cleaning);
+      if (result == null || result.isComplete()) break;
+    }
+
+    if (cleaning.isActive()) {
+      cleaningService.stopCleaning(cleaning);
+    }
+
+    long elapsed = System.nanoTime() - start;
+    return new SimulationSummary(cleaning, cleaningService.getMissionStatus(cleaning), elapsed);
+  }
+
+  public List<SimulationSummary> runBatch(int missions) {
+    return runBatch(missions, cleaningService::randomSpec);
+  }
+
+  public List<SimulationSummary> runBatch(int missions, Supplier<RoomSpec> specs) {
+    return collectSummaries(missions, () -> runMission(specs.get()));
+  }
+
+  // Cada mision carga una copia nueva del salon guardado, asi todas parten del mismo tablero
+  public List<SimulationSummary> runBatch(int missions, Path snapshot) {
+    return collectSummaries(missions, () -> runMission(cleaningService.loadRoom(snapshot)));
+  }
+
+  private List<SimulationSummary> collectSummaries(int missions, Supplier<SimulationSummary> mission) {
+    List<SimulationSummary> summaries = new ArrayList<>();
+
+    for (int i = 0; i < missions; i++) {
+      SimulationSummary summary = mission.get();
+      if (summary != null) {
+        summaries.add(summary);
+      }
+    }
+
+    return summaries;
+  }
+}
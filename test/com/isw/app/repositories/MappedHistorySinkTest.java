@@ -0,0 +1,96 @@
+package com.isw.app.repositories;
+
+import java.util.List;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import org.junit.Test;
+import org.junit.After;
+import org.junit.Before;
+import com.isw.app.models.Room;
+import com.isw.app.models.Coord;
+import com.isw.app.models.Robot;
+import com.isw.app.enums.RobotState;
+import com.isw.app.models.HistoryEntry;
+import static org.junit.Assert.assertEquals;
+
+public class MappedHistorySinkTest {
+  private static final int ROBOTS = 3;
+
+  private Path directory;
+  private List<Robot> robots;
+  private MappedHistorySink sink;
+
+  @Before
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("mapped-history");
+    Room room = new Room(4, 4, new byte[16], new byte[16]);
+    robots = new ArrayList<>();
+    for (int i = 0; i < ROBOTS; i++) {
+      robots.add(new Robot(new Coord(0, i)));
+    }
+    sink = new MappedHistorySink(metaPath(), this::segmentPath, room, robots);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    sink.close();
+    try (var files = Files.list(directory)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(directory);
+  }
+
+  @Test
+  public void batchSplitInsideAStepPublishesOnlyCompleteFrames() throws Exception {
+    sink.write(Arrays.asList(entry(1, 0), entry(1, 1), entry(1, 2), entry(2, 0)));
+
+    MappedHistoryReader reader = new MappedHistoryReader(metaPath(), this::segmentPath);
+    assertEquals(1, reader.getStepCount());
+    assertEquals(ROBOTS, reader.getFleetAt(1).size());
+    assertEquals(0, reader.getFleetAt(2).size());
+
+    sink.write(Arrays.asList(entry(2, 1), entry(2, 2), entry(3, 0)));
+    assertEquals(2, reader.getStepCount());
+    assertEquals(ROBOTS, reader.getFleetAt(2).size());
+    assertEquals(2, reader.getEntry(2, 2).getCol());
+  }
+
+  @Test
+  public void droppedRecordsDoNotHoldBackLaterFrames() throws Exception {
+    sink.write(Arrays.asList(entry(1, 0), entry(1, 2), entry(2, 0), entry(2, 1), entry(2, 2)));
+    sink.write(Arrays.asList(entry(3, 1), entry(4, 0)));
+
+    MappedHistoryReader reader = new MappedHistoryReader(metaPath(), this::segmentPath);
+    assertEquals(3, reader.getStepCount());
+    assertEquals(ROBOTS - 1, reader.getFleetAt(1).size());
+    assertEquals(ROBOTS, reader.getFleetAt(2).size());
+    assertEquals(1, reader.getFleetAt(3).size());
+  }
+
+  @Test
+  public void closePublishesTheRemainingFrames() throws Exception {
+    sink.write(Arrays.asList(entry(1, 0), entry(1, 1), entry(1, 2), entry(2, 1)));
+    sink.close();
+
+    MappedHistoryReader reader = new MappedHistoryReader(metaPath(), this::segmentPath);
+    assertEquals(2, reader.getStepCount());
+    assertEquals(1, reader.getFleetAt(2).size());
+  }
+
+  private HistoryEntry entry(int step, int robotIndex) {
+    return new HistoryEntry(step, robotIndex, robots.get(robotIndex).getUuid(), true, step, robotIndex,
+        RobotState.ACTIVE, 100 - step);
+  }
+
+  private Path metaPath() {
+    return directory.resolve("history.meta");
+  }
+
+  private Path segmentPath(int part) {
+    return directory.resolve(String.format("history-%04d.seg", part));
+  }
+}
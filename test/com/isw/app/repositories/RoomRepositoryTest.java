@@ -0,0 +1,53 @@
+package com.isw.app.repositories;
+
+import java.util.Random;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import org.junit.Test;
+import org.junit.After;
+import org.junit.Before;
+import com.isw.app.models.Room;
+import com.isw.app.models.RoomSpec;
+import com.isw.app.enums.SectorType;
+import com.isw.app.services.GenerationService;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertEquals;
+
+public class RoomRepositoryTest {
+  private final RoomRepository repository = new RoomRepository();
+  private Path snapshot;
+
+  @Before
+  public void setUp() throws Exception {
+    snapshot = Files.createTempFile("room", ".snap");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    Files.deleteIfExists(snapshot);
+  }
+
+  @Test
+  public void snapshotRoundTripKeepsTheBoard() throws Exception {
+    GenerationService generationService = new GenerationService(new Random(11));
+    Room room = generationService.generate(new RoomSpec(37, 53, 7).withStepTimers(true));
+
+    repository.saveSnapshot(room, snapshot);
+    Room loaded = repository.loadSnapshot(snapshot);
+
+    assertEquals(room.getUuid(), loaded.getUuid());
+    assertEquals(room.getRows(), loaded.getRows());
+    assertEquals(room.getCols(), loaded.getCols());
+    assertTrue(loaded.usesStepTimers());
+    assertEquals(room.getSectorCounter(), loaded.getSectorCounter());
+
+    for (int row = 0; row < room.getRows(); row++) {
+      for (int col = 0; col < room.getCols(); col++) {
+        assertEquals(room.getTypeAt(row, col), loaded.getTypeAt(row, col));
+        if (room.getTypeAt(row, col) == SectorType.TEMPORARY) {
+          assertEquals(room.getTemporaryTimerAt(row, col), loaded.getTemporaryTimerAt(row, col));
+        }
+      }
+    }
+  }
+}